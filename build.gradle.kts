@@ -12,6 +12,7 @@ plugins {
     alias(libs.plugins.run.paper)
     alias(libs.plugins.gremlin)
     alias(libs.plugins.indra.licenser.spotless)
+    alias(libs.plugins.jmh)
 }
 
 java {
@@ -31,6 +32,17 @@ dependencies {
     implementation(libs.kotonoha.message)
     implementation(libs.kotonoha.message.extra.miniplaceholders)
     implementation(libs.kotonoha.translator)
+
+    // Test
+    testImplementation(libs.paper.api)
+    testImplementation(platform(libs.junit.bom))
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+
+    // Benchmark (./gradlew jmh)
+    jmhImplementation(libs.paper.api)
+    jmhImplementation(libs.configurate.yaml)
+    jmhImplementation(libs.adventure.serializer.configurate)
 }
 
 val mainPackage = "io.github.crafterslife.dev.papertemplate" // TODO: パッケージ名を変更 (実際のパッケージ名も変更を忘れないように！)
@@ -64,6 +76,15 @@ indraSpotlessLicenser {
     property("contributors", paperPluginYaml.contributors)
 }
 
+jmh {
+    // 開発用のマシンで手早く比較できるよう、反復回数を抑える
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    // 1回の呼び出しあたりの割り当て (gc.alloc.rate.norm) も出力する
+    profilers = listOf("gc")
+}
+
 configurations {
     compileOnly {
         extendsFrom(configurations.runtimeDownload.get())
@@ -75,6 +96,10 @@ tasks {
         options.compilerArgs.add("-parameters")
     }
 
+    test {
+        useJUnitPlatform()
+    }
+
     shadowJar {
         archiveBaseName = paperPluginYaml.name
         archiveClassifier = null as String?
@@ -0,0 +1,214 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import io.github.crafterslife.dev.papertemplate.core.resource.Config;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jspecify.annotations.NullMarked;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * {@link ConfigurationHolder#getConfig()} の読み取り経路の変更前後を比較するベンチマーク。
+ * <p>
+ * {@code holder*} は現在の {@link ConfigurationHolder} (volatile なスナップショットを1回読む) を、
+ * {@code locked*} は変更前の実装 ({@link ReentrantReadWriteLock} の読み取りロックを取り、書き込みロックの中で読み込む) を計測します。
+ * どちらも一時ディレクトリに置いた {@link Config} の設定ファイルを実際の {@link ConfigurationLoader} で読み込みます。
+ * 単一スレッド、複数スレッド、読み取りと並行して {@link ConfigurationHolder#reloadConfig()} が行われる場合の3通りを計測します。
+ * <p>
+ * {@code ./gradlew jmh} で実行します。
+ */
+@NullMarked
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConfigurationReadBenchmark {
+
+    private final ComponentLogger logger = ComponentLogger.logger(ConfigurationReadBenchmark.class);
+    private Path directory;
+    private ConfigurationHolder<Config> holder;
+    private LockedHolder<Config> locked;
+
+    /**
+     * 計測の前に設定ファイルを作成し、両方の実装で読み込む。
+     *
+     * @throws IOException 一時ディレクトリを作成できない場合
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.directory = Files.createTempDirectory("config-benchmark");
+        final Path holderDirectory = Files.createDirectories(this.directory.resolve("holder"));
+        final Path lockedDirectory = Files.createDirectories(this.directory.resolve("locked"));
+        // 非同期の再読み込みは計測しないため、実行器には呼び出し元のスレッドで実行するものを渡す
+        this.holder = ConfigurationHolder.from(Config.class, holderDirectory, Runnable::run, this.logger);
+        this.locked = new LockedHolder<>(ConfigurationLoader.from(Config.class, lockedDirectory));
+    }
+
+    /**
+     * 計測の後に一時ディレクトリを削除する。
+     *
+     * @throws IOException 削除に失敗した場合
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * 変更前の読み取り (単一スレッド)。
+     *
+     * @return 設定
+     */
+    @Benchmark
+    public Config lockedRead() {
+        return this.locked.getConfig();
+    }
+
+    /**
+     * 現在の読み取り (単一スレッド)。
+     *
+     * @return 設定
+     */
+    @Benchmark
+    public Config holderRead() {
+        return this.holder.getConfig();
+    }
+
+    /**
+     * 変更前の読み取り (4スレッド)。読み取りロックのカウンタの更新が競合する。
+     *
+     * @return 設定
+     */
+    @Benchmark
+    @Threads(4)
+    public Config lockedReadContended() {
+        return this.locked.getConfig();
+    }
+
+    /**
+     * 現在の読み取り (4スレッド)。
+     *
+     * @return 設定
+     */
+    @Benchmark
+    @Threads(4)
+    public Config holderReadContended() {
+        return this.holder.getConfig();
+    }
+
+    /**
+     * 変更前の読み取り (再読み込みと並行)。再読み込みの間は書き込みロックで待たされる。
+     *
+     * @return 設定
+     */
+    @Benchmark
+    @Group("lockedWithReload")
+    @GroupThreads(3)
+    public Config lockedReadDuringReload() {
+        return this.locked.getConfig();
+    }
+
+    /**
+     * 変更前の再読み込み (書き込みロックの中でファイルを読み込む)。
+     */
+    @Benchmark
+    @Group("lockedWithReload")
+    @GroupThreads(1)
+    public void lockedReload() {
+        this.locked.reloadConfig();
+    }
+
+    /**
+     * 現在の読み取り (再読み込みと並行)。
+     *
+     * @return 設定
+     */
+    @Benchmark
+    @Group("holderWithReload")
+    @GroupThreads(3)
+    public Config holderReadDuringReload() {
+        return this.holder.getConfig();
+    }
+
+    /**
+     * 現在の再読み込み ({@link ConfigurationHolder#reloadConfig()})。
+     *
+     * @return 差し替えたスナップショット
+     */
+    @Benchmark
+    @Group("holderWithReload")
+    @GroupThreads(1)
+    public ConfigurationSnapshot<Config> holderReload() {
+        return this.holder.reloadConfig();
+    }
+
+    // 変更前のConfigurationHolderと同じ、読み書きロックで保護した実装
+    private static final class LockedHolder<C> {
+
+        private final ConfigurationLoader<C> loader;
+        private final ReadWriteLock lock;
+        private C config;
+
+        LockedHolder(final ConfigurationLoader<C> loader) {
+            this.loader = loader;
+            this.lock = new ReentrantReadWriteLock();
+            this.config = loader.load().config();
+        }
+
+        C getConfig() {
+            this.lock.readLock().lock();
+            try {
+                return this.config;
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        }
+
+        void reloadConfig() {
+            this.lock.writeLock().lock();
+            try {
+                this.config = this.loader.load().config();
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -19,11 +19,16 @@
  */
 package io.github.crafterslife.dev.papertemplate.core;
 
-import io.github.crafterslife.dev.papertemplate.core.resource.Config;
 import io.github.crafterslife.dev.papertemplate.core.resource.Messages;
-import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationHolder;
+import io.github.crafterslife.dev.papertemplate.core.utility.PluginScheduler;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationRegistry;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationWatcher;
+import io.github.crafterslife.dev.papertemplate.infrastructure.translation.HudMessenger;
+import java.util.concurrent.ExecutorService;
+import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * <p>プラグインのロジックやライフサイクルを管理するメインクラス。</p>
@@ -31,19 +36,59 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 public final class JavaPluginImpl extends JavaPlugin {
 
-    private final ConfigurationHolder<Config> configHolder;
+    private final ConfigurationRegistry configRegistry;
+    private final @Nullable ConfigurationWatcher configWatcher;
     private final Messages messages;
+    private final PluginScheduler scheduler;
+    private final HudMessenger hudMessenger;
 
     JavaPluginImpl(
-            final ConfigurationHolder<Config> configHolder,
-            final Messages messages
+            final ConfigurationRegistry configRegistry,
+            final @Nullable ConfigurationWatcher configWatcher,
+            final Messages messages,
+            final ExecutorService asyncExecutor
     ) {
-        this.configHolder = configHolder;
+        this.configRegistry = configRegistry;
+        this.configWatcher = configWatcher;
         this.messages = messages;
+        // ブートストラップ中に設定や翻訳に渡した実行器を引き継ぎ、無効化時に一緒に終了する
+        this.scheduler = new PluginScheduler(this, asyncExecutor);
+        this.hudMessenger = HudMessenger.create();
+    }
+
+    /**
+     * プラグインのスケジューラを取得する。
+     * <p>
+     * 設定の非同期の再読み込みと翻訳ファイルの読み込みも、このスケジューラの非同期処理と同じ実行器で行われます。
+     *
+     * @return プラグインのスケジューラ
+     */
+    public PluginScheduler scheduler() {
+        return this.scheduler;
+    }
+
+    /**
+     * アクションバー、タイトル、ボスバーにメッセージを送信するための {@link HudMessenger} を取得する。
+     * <p>
+     * 同じ内容が表示中であれば送信を省略するため、毎ティック更新するHUDはこのインスタンスを通して送信してください。
+     *
+     * @return HUDへの送信を行う {@code HudMessenger}
+     */
+    public HudMessenger hudMessenger() {
+        return this.hudMessenger;
     }
 
     @Override
     public void onEnable() {
-        // Bukkit.getPluginManager().registerEvents(listener, this);
+        // ログアウトしたプレイヤーのHUDの表示状態を破棄するため登録する
+        Bukkit.getPluginManager().registerEvents(this.hudMessenger, this);
+    }
+
+    @Override
+    public void onDisable() {
+        this.scheduler.close();
+        if (this.configWatcher != null) {
+            this.configWatcher.close();
+        }
     }
 }
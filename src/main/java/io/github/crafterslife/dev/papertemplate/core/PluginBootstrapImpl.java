@@ -23,17 +23,23 @@ import io.github.crafterslife.dev.papertemplate.core.commands.AdminCommand;
 import io.github.crafterslife.dev.papertemplate.core.commands.BaseCommand;
 import io.github.crafterslife.dev.papertemplate.core.resource.Config;
 import io.github.crafterslife.dev.papertemplate.core.resource.Messages;
+import io.github.crafterslife.dev.papertemplate.core.utility.PluginScheduler;
 import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationHolder;
-import io.github.crafterslife.dev.papertemplate.infrastructure.translation.TranslationMessageFactory;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationRegistry;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationWatcher;
+import io.github.crafterslife.dev.papertemplate.infrastructure.translation.TranslationHolder;
 import io.papermc.paper.plugin.bootstrap.BootstrapContext;
 import io.papermc.paper.plugin.bootstrap.PluginBootstrap;
 import io.papermc.paper.plugin.bootstrap.PluginProviderContext;
 import io.papermc.paper.plugin.lifecycle.event.LifecycleEventManager;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * <p>Paperの{@link PluginBootstrap}を実装し、プラグインのブートストラップと初期化ロジックを管理します。</p>
@@ -42,8 +48,10 @@ import org.jspecify.annotations.NullMarked;
 @SuppressWarnings({"UnstableApiUsage", "unused"})
 public final class PluginBootstrapImpl implements PluginBootstrap {
 
-    private @MonotonicNonNull ConfigurationHolder<Config> configHolder;
-    private @MonotonicNonNull Messages messages;
+    private @MonotonicNonNull ExecutorService asyncExecutor;
+    private @MonotonicNonNull ConfigurationRegistry configRegistry;
+    private @Nullable ConfigurationWatcher configWatcher;
+    private @MonotonicNonNull TranslationHolder<Messages> translations;
 
     @ApiStatus.Internal
     public PluginBootstrapImpl() {
@@ -52,22 +60,41 @@ public final class PluginBootstrapImpl implements PluginBootstrap {
     @Override
     public void bootstrap(final BootstrapContext context) {
 
-        // 設定ホルダーを生成
-        this.configHolder = ConfigurationHolder.from(Config.class, context);
+        // 設定の再読み込みや翻訳ファイルの読み込みは、プラグインのスケジューラと同じ仮想スレッドの実行器で行う
+        this.asyncExecutor = PluginScheduler.newAsyncExecutor(context.getPluginMeta().getName());
+
+        // 設定を並行して読み込み (設定クラスを追加したらここに登録)
+        this.configRegistry = ConfigurationRegistry.load(Set.of(Config.class), context, this.asyncExecutor);
+
+        // 設定ファイルの変更を監視して自動で再読み込み (無効の場合は監視スレッドを起動しない)
+        final ConfigurationHolder<Config> configHolder = this.configRegistry.holder(Config.class);
+        if (configHolder.getConfig().watchFiles()) {
+            final ConfigurationWatcher watcher = ConfigurationWatcher.create(context.getLogger());
+            this.configRegistry.holders().forEach(watcher::watch);
+            this.configWatcher = watcher;
+        }
 
         // メッセージサービスを生成
-        this.messages = TranslationMessageFactory.from(Messages.class, context);
+        this.translations = TranslationHolder.from(Messages.class, context, this.asyncExecutor);
+
+        // プレースホルダーを含むメッセージのキャッシュ期間を設定に合わせる (再読み込みでも更新)
+        this.applyTranslationSettings(configHolder.getConfig().translation());
+        configHolder.subscribe(change -> this.applyTranslationSettings(change.snapshot().config().translation()), "translation");
 
         // コマンドを登録
         final LifecycleEventManager<BootstrapContext> lifecycleManager = context.getLifecycleManager();
         lifecycleManager.registerEventHandler(LifecycleEvents.COMMANDS, event -> {
-            final BaseCommand adminCommand = new AdminCommand(this.configHolder, this.messages);
+            final BaseCommand adminCommand = new AdminCommand(this.configRegistry, this.translations);
             event.registrar().register(adminCommand.node(), adminCommand.description(), adminCommand.aliases());
         });
     }
 
+    private void applyTranslationSettings(final Config.TranslationSettings settings) {
+        this.translations.placeholderCacheTicks(settings.globalPlaceholderCacheTicks(), settings.audiencePlaceholderCacheTicks());
+    }
+
     @Override
     public JavaPlugin createPlugin(final PluginProviderContext context) {
-        return new JavaPluginImpl(this.configHolder, this.messages);
+        return new JavaPluginImpl(this.configRegistry, this.configWatcher, this.translations.messages(), this.asyncExecutor);
     }
 }
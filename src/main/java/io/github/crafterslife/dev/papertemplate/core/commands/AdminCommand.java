@@ -21,37 +21,45 @@ package io.github.crafterslife.dev.papertemplate.core.commands;
 
 import com.mojang.brigadier.Command;
 import com.mojang.brigadier.tree.LiteralCommandNode;
-import io.github.crafterslife.dev.papertemplate.core.resource.Config;
 import io.github.crafterslife.dev.papertemplate.core.resource.Messages;
 import io.github.crafterslife.dev.papertemplate.core.resource.Permissions;
 import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationHolder;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationLoadMetrics;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ConfigurationRegistry;
+import io.github.crafterslife.dev.papertemplate.infrastructure.translation.RenderCacheStatistics;
+import io.github.crafterslife.dev.papertemplate.infrastructure.translation.TranslationHolder;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import net.kyori.adventure.text.Component;
 import org.bukkit.command.CommandSender;
 import org.jspecify.annotations.NullMarked;
 
 /**
- * <p>プラグインの設定を再読み込みするなどの管理者向けのタスクを実行するための管理者用コマンド。</p>
+ * <p>プラグインの設定の再読み込みや読み込み統計の表示などの管理者向けのタスクを実行するための管理者用コマンド。</p>
  */
 @NullMarked
 public final class AdminCommand implements BaseCommand {
 
-    private final ConfigurationHolder<Config> configHolder;
+    private final ConfigurationRegistry configRegistry;
+    private final TranslationHolder<Messages> translations;
     private final Messages messages;
 
     /**
      * このクラスの新しいインスタンスを生成する。
      *
-     * @param configHolder      設定ホルダー
-     * @param messages 翻訳メッセージ
+     * @param configRegistry 設定レジストリ
+     * @param translations 翻訳メッセージの保持者
      */
     public AdminCommand(
-            final ConfigurationHolder<Config> configHolder,
-            final Messages messages
+            final ConfigurationRegistry configRegistry,
+            final TranslationHolder<Messages> translations
     ) {
-        this.configHolder = configHolder;
-        this.messages = messages;
+        this.configRegistry = configRegistry;
+        this.translations = translations;
+        this.messages = translations.messages();
     }
 
     /**
@@ -63,6 +71,7 @@ public final class AdminCommand implements BaseCommand {
     public LiteralCommandNode<CommandSourceStack> node() {
         return Commands.literal("template")
                 .then(this.reloadNode())
+                .then(this.statsNode())
                 .build();
     }
 
@@ -70,17 +79,78 @@ public final class AdminCommand implements BaseCommand {
         return Commands.literal("reload")
                 .requires(source -> source.getSender().hasPermission(Permissions.COMMAND_RELOAD))
                 .executes(context -> {
+                    final CommandSender sender = context.getSource().getSender();
+
+                    // すべての設定と翻訳ファイルをメインスレッド外で再読み込みし、完了したら結果メッセージを送信
+                    this.configRegistry.reloadAllAsync().thenRun(this.translations::reload).whenComplete((ignored, throwable) -> {
+                        final Component resultMessage = throwable == null
+                                ? this.messages.configReloadSuccess()
+                                : this.messages.configReloadFailure();
+                        sender.sendMessage(resultMessage);
+                    });
 
-                    // 設定を再読み込み
-                    this.configHolder.reloadConfig();
+                    return Command.SINGLE_SUCCESS;
+                })
+                .build();
+    }
 
-                    // 再読み込み成功メッセージを送信
-                    final Component reloadedMessage = this.messages.configReloadSuccess();
+    private LiteralCommandNode<CommandSourceStack> statsNode() {
+        return Commands.literal("stats")
+                .requires(source -> source.getSender().hasPermission(Permissions.COMMAND_STATS))
+                .executes(context -> {
                     final CommandSender sender = context.getSource().getSender();
-                    sender.sendMessage(reloadedMessage);
+
+                    // 設定ファイルごとに最新の読み込みの内訳と、直近の履歴の集計を送信
+                    for (final ConfigurationHolder<?> holder : this.configRegistry.holders()) {
+                        final ConfigurationLoadMetrics latest = holder.latestLoad();
+                        sender.sendMessage(this.messages.configStatsEntry(
+                                latest.fileName(),
+                                formatMillis(latest.totalTime()),
+                                formatMillis(latest.readTime()),
+                                formatMillis(latest.parseTime()),
+                                formatMillis(latest.mapTime()),
+                                formatMillis(latest.writeTime()),
+                                formatMillis(latest.swapTime()),
+                                String.valueOf(latest.fileSize()),
+                                String.valueOf(latest.nodeCount())
+                        ));
+
+                        final List<ConfigurationLoadMetrics> history = holder.loadHistory();
+                        final Duration total = history.stream()
+                                .map(ConfigurationLoadMetrics::totalTime)
+                                .reduce(Duration.ZERO, Duration::plus);
+                        final Duration max = history.stream()
+                                .map(ConfigurationLoadMetrics::totalTime)
+                                .max(Duration::compareTo)
+                                .orElse(Duration.ZERO);
+                        sender.sendMessage(this.messages.configStatsSummary(
+                                String.valueOf(history.size()),
+                                formatMillis(total.dividedBy(history.size())),
+                                formatMillis(max)
+                        ));
+                    }
+
+                    // 翻訳の描画結果のキャッシュの統計
+                    final RenderCacheStatistics cacheStatistics = this.translations.cacheStatistics();
+                    sender.sendMessage(this.messages.translationCacheStats(
+                            String.valueOf(cacheStatistics.hits()),
+                            String.valueOf(cacheStatistics.misses()),
+                            String.format(Locale.ROOT, "%.1f", cacheStatistics.hitRate() * 100.0),
+                            String.valueOf(cacheStatistics.size())
+                    ));
+                    sender.sendMessage(this.messages.placeholderCacheStats(
+                            String.valueOf(cacheStatistics.placeholderHits()),
+                            String.valueOf(cacheStatistics.placeholderMisses()),
+                            String.format(Locale.ROOT, "%.1f", cacheStatistics.placeholderHitRate() * 100.0),
+                            String.valueOf(cacheStatistics.placeholderSize())
+                    ));
 
                     return Command.SINGLE_SUCCESS;
                 })
                 .build();
     }
+
+    private static String formatMillis(final Duration duration) {
+        return String.format(Locale.ROOT, "%.2f", duration.toNanos() / 1_000_000.0);
+    }
 }
@@ -23,6 +23,7 @@ import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.ann
 import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigName;
 import org.jspecify.annotations.NullMarked;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Comment;
 
 /**
  * プラグインの設定ファイルをマッピングするためのクラス
@@ -36,7 +37,65 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 @ConfigHeader("プラグインの設定ファイル")
 public final class Config {
 
+    @Comment("設定ファイルの変更を監視して自動で再読み込みするか (変更はサーバーの再起動後に反映)")
+    private boolean watchFiles = true;
+
+    @Comment("翻訳メッセージに関する設定")
+    private TranslationSettings translation = new TranslationSettings();
+
     // 自分でインスタンスを生成しないための防御的プライベートコンストラクタ
     private Config() {
     }
+
+    /**
+     * 設定ファイルの変更を監視して自動で再読み込みするかどうかを取得する。
+     *
+     * @return 監視する場合は {@code true}
+     */
+    public boolean watchFiles() {
+        return this.watchFiles;
+    }
+
+    /**
+     * 翻訳メッセージに関する設定を取得する。
+     *
+     * @return 翻訳メッセージに関する設定
+     */
+    public TranslationSettings translation() {
+        return this.translation;
+    }
+
+    /**
+     * 翻訳メッセージに関する設定をマッピングするためのクラス
+     */
+    @ConfigSerializable
+    public static final class TranslationSettings {
+
+        @Comment("グローバルなプレースホルダーを含むメッセージの描画結果を使い回すティック数 (0で無効)")
+        private int globalPlaceholderCacheTicks = 1;
+
+        @Comment("プレイヤーごとのプレースホルダーを含むメッセージの描画結果を使い回すティック数 (0で無効)")
+        private int audiencePlaceholderCacheTicks = 1;
+
+        private TranslationSettings() {
+        }
+
+        /**
+         * グローバルなプレースホルダーを含むメッセージの描画結果を使い回すティック数を取得する。
+         *
+         * @return ティック数
+         */
+        public int globalPlaceholderCacheTicks() {
+            return this.globalPlaceholderCacheTicks;
+        }
+
+        /**
+         * プレイヤーごとのプレースホルダーを含むメッセージの描画結果を使い回すティック数を取得する。
+         *
+         * @return ティック数
+         */
+        public int audiencePlaceholderCacheTicks() {
+            return this.audiencePlaceholderCacheTicks;
+        }
+    }
 }
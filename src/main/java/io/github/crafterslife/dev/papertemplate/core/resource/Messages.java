@@ -47,4 +47,79 @@ public interface Messages {
     @Message(locale = Locales.EN_US, content = "<info>Configuration reloaded successfully!")
     @Message(locale = Locales.JA_JP, content = "<info>設定の再読み込みに成功しました！")
     Component configReloadSuccess();
+
+    /**
+     * 設定の再読み込みに失敗したことを知らせるためのメッセージを返す。
+     *
+     * @return 再読み込み失敗メッセージ
+     */
+    @WithPlaceholders(PlaceholderScope.GLOBAL)
+    @Key("template.config.reload.failure") // TODO: templateを変更
+    @Message(locale = Locales.EN_US, content = "<error>Failed to reload configuration. See the console for details.")
+    @Message(locale = Locales.JA_JP, content = "<error>設定の再読み込みに失敗しました。詳細はコンソールを確認してください。")
+    Component configReloadFailure();
+
+    /**
+     * 設定ファイルの最新の読み込みにかかった時間と規模を知らせるためのメッセージを返す。
+     *
+     * @param file  設定ファイルの名前
+     * @param total 合計時間 (ミリ秒)
+     * @param read  読み込みにかかった時間 (ミリ秒)
+     * @param parse パースにかかった時間 (ミリ秒)
+     * @param map   マッピングにかかった時間 (ミリ秒)
+     * @param write 書き戻しにかかった時間 (ミリ秒)
+     * @param swap  差し替えにかかった時間 (ミリ秒)
+     * @param size  設定ファイルのサイズ (バイト)
+     * @param nodes 設定ノードの数
+     * @return 読み込み統計メッセージ
+     */
+    @WithPlaceholders(PlaceholderScope.GLOBAL)
+    @Key("template.config.stats.entry") // TODO: templateを変更
+    @Message(locale = Locales.EN_US, content = "<info><file>: <total> ms (read <read> / parse <parse> / map <map> / write <write> / swap <swap>), <size> bytes, <nodes> nodes")
+    @Message(locale = Locales.JA_JP, content = "<info><file>: <total> ms (読み込み <read> / パース <parse> / マッピング <map> / 書き戻し <write> / 差し替え <swap>)、<size> バイト、<nodes> ノード")
+    Component configStatsEntry(String file, String total, String read, String parse, String map, String write, String swap, String size, String nodes);
+
+    /**
+     * 設定ファイルの直近の読み込み履歴の集計を知らせるためのメッセージを返す。
+     *
+     * @param samples 集計した読み込みの回数
+     * @param average 平均時間 (ミリ秒)
+     * @param max     最大時間 (ミリ秒)
+     * @return 読み込み履歴の集計メッセージ
+     */
+    @WithPlaceholders(PlaceholderScope.GLOBAL)
+    @Key("template.config.stats.summary") // TODO: templateを変更
+    @Message(locale = Locales.EN_US, content = "<gray>  Last <samples> loads: average <average> ms, max <max> ms")
+    @Message(locale = Locales.JA_JP, content = "<gray>  直近 <samples> 回の読み込み: 平均 <average> ms、最大 <max> ms")
+    Component configStatsSummary(String samples, String average, String max);
+
+    /**
+     * 翻訳の描画結果のキャッシュの統計を知らせるためのメッセージを返す。
+     *
+     * @param hits   キャッシュから結果を返した回数
+     * @param misses 描画を行った回数
+     * @param rate   ヒット率 (パーセント)
+     * @param size   キャッシュされているエントリーの数
+     * @return キャッシュ統計メッセージ
+     */
+    @WithPlaceholders(PlaceholderScope.GLOBAL)
+    @Key("template.translation.cache.stats") // TODO: templateを変更
+    @Message(locale = Locales.EN_US, content = "<info>Render cache: <hits> hits / <misses> misses (<rate>%), <size> entries")
+    @Message(locale = Locales.JA_JP, content = "<info>描画キャッシュ: ヒット <hits> 回 / ミス <misses> 回 (<rate>%)、<size> 件")
+    Component translationCacheStats(String hits, String misses, String rate, String size);
+
+    /**
+     * プレースホルダーを含む翻訳の描画結果のキャッシュの統計を知らせるためのメッセージを返す。
+     *
+     * @param hits   キャッシュから結果を返した回数
+     * @param misses 描画を行った回数
+     * @param rate   ヒット率 (パーセント)
+     * @param size   キャッシュされているエントリーの数
+     * @return キャッシュ統計メッセージ
+     */
+    @WithPlaceholders(PlaceholderScope.GLOBAL)
+    @Key("template.translation.cache.placeholder-stats") // TODO: templateを変更
+    @Message(locale = Locales.EN_US, content = "<info>Placeholder render cache: <hits> hits / <misses> misses (<rate>%), <size> entries")
+    @Message(locale = Locales.JA_JP, content = "<info>プレースホルダー描画キャッシュ: ヒット <hits> 回 / ミス <misses> 回 (<rate>%)、<size> 件")
+    Component placeholderCacheStats(String hits, String misses, String rate, String size);
 }
@@ -28,6 +28,7 @@ import org.jspecify.annotations.NullMarked;
 public final class Permissions {
 
     public static final String COMMAND_RELOAD = "template.command.reload"; // TODO: templateを変更
+    public static final String COMMAND_STATS = "template.command.stats"; // TODO: templateを変更
 
     private Permissions() {
     }
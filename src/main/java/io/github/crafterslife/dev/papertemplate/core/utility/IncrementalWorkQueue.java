@@ -0,0 +1,370 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.core.utility;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import org.bukkit.Bukkit;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>大量の処理をティックごとの時間予算内に分割して実行するキューです。</p>
+ *
+ * <p>数千のエンティティやブロックの走査、インデックスの再構築のように1ティック (50ms) では終わらない処理を、
+ * {@link PluginScheduler#runTaskTimer(Runnable, long, long)}で毎ティック少しずつメインスレッドで進めます。
+ * 1ティックに使う時間は、サーバーの平均ティック時間 (MSPT) から求めた余裕に合わせて
+ * 最小予算と最大予算の間で自動的に調整されます。サーバーが重いときほど処理は遅くなりますが、ティックを超過しにくくなります。
+ * Foliaではサーバー全体の平均ティック時間が処理を実行するリージョンの負荷を表さないため、常に最大予算を使用します。</p>
+ *
+ * <p>キューに処理がない間はタイマーを停止します。</p>
+ *
+ * <pre>{@code
+ * final IncrementalWorkQueue queue = IncrementalWorkQueue.create(scheduler, Duration.ofMillis(5));
+ * final IncrementalWorkQueue.Job job = queue.submit(world.getEntities(), entity -> index.add(entity));
+ * job.progress(0.5).thenRun(() -> logger.info("半分完了しました。"));
+ * job.completion().thenRun(() -> logger.info("インデックスを再構築しました。"));
+ * }</pre>
+ */
+@NullMarked
+public final class IncrementalWorkQueue implements AutoCloseable {
+
+    private static final double TICK_MILLIS = 50.0;
+
+    // ティックの余裕のうち、このキューが使用してよい割合
+    private static final double HEADROOM_SHARE = 0.5;
+
+    // 最大予算に対する最小予算の割合。サーバーが重くても処理が止まらないようにする
+    private static final int MINIMUM_BUDGET_DIVISOR = 10;
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final PluginScheduler scheduler;
+    private final long maximumBudgetNanos;
+    private final long minimumBudgetNanos;
+    private final Queue<Job> jobs;
+    private final Lock timerLock;
+
+    private @Nullable PluginTask timer;
+    private boolean closed;
+    private volatile long lastBudgetNanos;
+
+    private IncrementalWorkQueue(final PluginScheduler scheduler, final Duration maximumBudget) {
+        this.scheduler = scheduler;
+        this.maximumBudgetNanos = maximumBudget.toNanos();
+        this.minimumBudgetNanos = Math.max(1L, this.maximumBudgetNanos / MINIMUM_BUDGET_DIVISOR);
+        this.jobs = new ConcurrentLinkedQueue<>();
+        this.timerLock = new ReentrantLock();
+        this.lastBudgetNanos = this.maximumBudgetNanos;
+    }
+
+    /**
+     * 新しい{@code IncrementalWorkQueue}を生成します。
+     *
+     * @param scheduler     処理を実行するスケジューラ
+     * @param maximumBudget 1ティックに使用する時間の上限
+     * @return 生成された{@code IncrementalWorkQueue}
+     * @throws IllegalArgumentException 時間の上限が0以下の場合
+     */
+    public static IncrementalWorkQueue create(final PluginScheduler scheduler, final Duration maximumBudget) {
+        if (maximumBudget.isNegative() || maximumBudget.isZero()) {
+            throw new IllegalArgumentException("Budget must be positive: " + maximumBudget);
+        }
+        return new IncrementalWorkQueue(scheduler, maximumBudget);
+    }
+
+    /**
+     * 要素ごとの処理をキューに追加します。
+     *
+     * <p>要素は追加した時点でコピーされるため、{@code null}を含めることはできません。処理はメインスレッドで要素の順に実行され、
+     * 処理が例外を投げた場合、ジョブはその例外で失敗し残りの要素は処理されません。
+     * このメソッドは任意のスレッドから呼び出せます。</p>
+     *
+     * @param items  処理する要素
+     * @param action 要素ごとの処理
+     * @param <T>    要素の型
+     * @return 追加されたジョブ
+     * @throws IllegalStateException キューが閉じられている場合
+     */
+    public <T> Job submit(final Collection<? extends T> items, final Consumer<? super T> action) {
+        final List<? extends T> snapshot = List.copyOf(items);
+        final Job job = new Job(snapshot.size(), index -> action.accept(snapshot.get(index)));
+
+        this.timerLock.lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("Work queue has been closed");
+            }
+            this.jobs.add(job);
+            if (this.timer == null) {
+                this.timer = this.scheduler.runTaskTimer(this::tick, 1L, 1L);
+            }
+        } finally {
+            this.timerLock.unlock();
+        }
+        return job;
+    }
+
+    /**
+     * 処理待ちのジョブの数を返します。
+     *
+     * @return 処理待ちのジョブの数
+     */
+    public int pendingJobs() {
+        return this.jobs.size();
+    }
+
+    /**
+     * 直前のティックで使用した時間予算を返します。
+     *
+     * @return 直前のティックの時間予算
+     */
+    public Duration lastBudget() {
+        return Duration.ofNanos(this.lastBudgetNanos);
+    }
+
+    /**
+     * キューを閉じ、未完了のジョブをすべてキャンセルします。
+     */
+    @Override
+    public void close() {
+        this.timerLock.lock();
+        try {
+            this.closed = true;
+            this.stopTimer();
+        } finally {
+            this.timerLock.unlock();
+        }
+
+        Job job;
+        while ((job = this.jobs.poll()) != null) {
+            job.cancel();
+        }
+    }
+
+    private void tick() {
+        final long budget = this.budgetNanos();
+        this.lastBudgetNanos = budget;
+        final long deadline = System.nanoTime() + budget;
+
+        // 予算を使い切るまで先頭のジョブから順に進める
+        Job job;
+        while ((job = this.jobs.peek()) != null) {
+            if (!job.advance(deadline)) {
+                return;
+            }
+            this.jobs.remove(job);
+
+            // ジョブがちょうど期限に終わった場合、次のジョブは次のティックに回す
+            if (System.nanoTime() >= deadline && !this.jobs.isEmpty()) {
+                return;
+            }
+        }
+
+        this.timerLock.lock();
+        try {
+            // ロック中に追加されたジョブがなければタイマーを止める
+            if (this.jobs.isEmpty()) {
+                this.stopTimer();
+            }
+        } finally {
+            this.timerLock.unlock();
+        }
+    }
+
+    private long budgetNanos() {
+        // Foliaのタイマーはグローバルリージョンで動作し、サーバー全体のMSPTはその負荷を表さない
+        if (PluginScheduler.isFolia()) {
+            return this.maximumBudgetNanos;
+        }
+
+        final double headroomMillis = TICK_MILLIS - Bukkit.getAverageTickTime();
+        final long adaptive = (long) (headroomMillis * HEADROOM_SHARE * NANOS_PER_MILLI);
+        return Math.clamp(adaptive, this.minimumBudgetNanos, this.maximumBudgetNanos);
+    }
+
+    private void stopTimer() {
+        final PluginTask current = this.timer;
+        if (current != null) {
+            current.cancel();
+            this.timer = null;
+        }
+    }
+
+    /**
+     * <p>{@link IncrementalWorkQueue}に追加された処理の進捗を表すジョブです。</p>
+     */
+    public static final class Job {
+
+        private final int total;
+        private final IntConsumer action;
+        private final CompletableFuture<@Nullable Void> completion;
+        private final Queue<Milestone> milestones;
+
+        // メインスレッドからのみ更新する
+        private volatile int processed;
+
+        private Job(final int total, final IntConsumer action) {
+            this.total = total;
+            this.action = action;
+            this.completion = new CompletableFuture<>();
+            this.milestones = new ConcurrentLinkedQueue<>();
+            this.completion.whenComplete((value, failure) -> this.settleMilestones(failure));
+        }
+
+        /**
+         * 処理する要素の総数を返します。
+         *
+         * @return 要素の総数
+         */
+        public int total() {
+            return this.total;
+        }
+
+        /**
+         * 処理済みの要素の数を返します。
+         *
+         * @return 処理済みの要素の数
+         */
+        public int processed() {
+            return this.processed;
+        }
+
+        /**
+         * 処理済みの割合を{@code 0.0}から{@code 1.0}の範囲で返します。
+         *
+         * @return 処理済みの割合
+         */
+        public double fraction() {
+            return this.total == 0 ? 1.0 : (double) this.processed / this.total;
+        }
+
+        /**
+         * すべての要素の処理が完了したときに完了する{@link CompletableFuture}を返します。
+         *
+         * <p>処理が例外を投げた場合はその例外で、ジョブがキャンセルされた場合は{@link CancellationException}で完了します。</p>
+         *
+         * @return 完了を通知する{@code CompletableFuture}
+         */
+        public CompletableFuture<@Nullable Void> completion() {
+            return this.completion;
+        }
+
+        /**
+         * 処理済みの割合が指定された値に達したときに完了する{@link CompletableFuture}を返します。
+         *
+         * <p>すでに達している場合は完了済みの{@code CompletableFuture}を返します。
+         * ジョブが失敗またはキャンセルされた場合は、{@link #completion()}と同じ例外で完了します。</p>
+         *
+         * @param fraction 処理済みの割合 ({@code 0.0}から{@code 1.0})
+         * @return 進捗を通知する{@code CompletableFuture}
+         * @throws IllegalArgumentException 割合が範囲外の場合
+         */
+        public CompletableFuture<@Nullable Void> progress(final double fraction) {
+            if (fraction < 0.0 || fraction > 1.0) {
+                throw new IllegalArgumentException("Fraction must be between 0.0 and 1.0: " + fraction);
+            }
+
+            final Milestone milestone = new Milestone((int) Math.ceil(fraction * this.total), new CompletableFuture<>());
+            this.milestones.add(milestone);
+            // 登録中に進捗やジョブの完了が先行していても取りこぼさないよう、登録後に確認する
+            if (this.completion.isDone()) {
+                this.completion.whenComplete((value, failure) -> this.settleMilestones(failure));
+            } else {
+                this.reachMilestones();
+            }
+            return milestone.future();
+        }
+
+        /**
+         * ジョブをキャンセルします。処理中の要素は最後まで処理されます。
+         */
+        public void cancel() {
+            this.completion.cancel(false);
+        }
+
+        // 期限まで処理を進め、ジョブが終了した場合はtrueを返す
+        private boolean advance(final long deadline) {
+            if (this.completion.isDone()) {
+                return true;
+            }
+
+            int index = this.processed;
+            try {
+                while (index < this.total) {
+                    this.action.accept(index);
+                    index++;
+                    if (System.nanoTime() >= deadline) {
+                        break;
+                    }
+                }
+            } catch (final Throwable throwable) {
+                this.processed = index;
+                this.completion.completeExceptionally(throwable);
+                return true;
+            }
+
+            this.processed = index;
+            this.reachMilestones();
+            if (index < this.total) {
+                return false;
+            }
+            this.completion.complete(null);
+            return true;
+        }
+
+        private void reachMilestones() {
+            final int current = this.processed;
+            final Iterator<Milestone> iterator = this.milestones.iterator();
+            while (iterator.hasNext()) {
+                final Milestone milestone = iterator.next();
+                if (current >= milestone.threshold()) {
+                    milestone.future().complete(null);
+                    iterator.remove();
+                }
+            }
+        }
+
+        private void settleMilestones(final @Nullable Throwable failure) {
+            if (failure == null) {
+                this.reachMilestones();
+                return;
+            }
+
+            Milestone milestone;
+            while ((milestone = this.milestones.poll()) != null) {
+                milestone.future().completeExceptionally(failure);
+            }
+        }
+    }
+
+    private record Milestone(int threshold, CompletableFuture<@Nullable Void> future) {
+    }
+}
@@ -19,10 +19,32 @@
  */
 package io.github.crafterslife.dev.papertemplate.core.utility;
 
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * <p>同期/非同期タスクの実行を簡素化するためのユーティリティクラスです。</p>
@@ -30,12 +52,49 @@ import org.jspecify.annotations.NullMarked;
  * <p>このクラスは、Bukkitの{@link BukkitScheduler}をラップし、
  * メインサーバーティックで実行されるタスクのスケジューリングを簡潔なメソッドで
  * 提供します。</p>
+ *
+ * <p>Foliaで実行されている場合は、Paperのリージョン対応スケジューラに処理を振り分けます。
+ * 位置に関するタスクはその位置を所有するリージョンのスレッドで、エンティティに関するタスクは
+ * そのエンティティを所有するリージョンのスレッドで、それ以外のタスクはグローバルリージョンのスレッドで実行されます。
+ * Foliaでない場合は、すべて{@link BukkitScheduler}のメインスレッドまたは非同期スレッドで実行されます。
+ * そのため、このクラスを通してスケジュールしていれば、コードを変えずにFoliaの複数のコアに処理を分散できます。</p>
+ *
+ * <p>なお、Foliaでプラグインを読み込むには{@code paper-plugin.yml}で{@code folia-supported: true}を指定する必要があります。</p>
+ *
+ * <p>ファイルの読み書きやデータベースへの問い合わせのようなI/O待ちの多い処理は、
+ * {@link #supplyAsync(Callable)}で仮想スレッドに逃がし、結果を{@link #thenOnMainThread(CompletionStage, Function)}や
+ * {@link #thenForEntity(CompletionStage, Entity, Function)}でサーバーのスレッドに戻して使用します。</p>
+ *
+ * <pre>{@code
+ * final CompletableFuture<PlayerData> loading = scheduler.supplyAsync(() -> repository.load(player.getUniqueId()));
+ * scheduler.thenForEntity(loading, player, data -> {
+ *     player.sendMessage(data.greeting());
+ *     return data;
+ * });
+ * }</pre>
+ *
+ * <p>未完了の非同期処理は、プラグインの無効化時に{@link #close()}ですべてキャンセルされます。</p>
+ *
+ * <p>プラグインのインスタンスが生成される前 (ブートストラップ中) に生成した設定の再読み込みや翻訳ファイルの読み込みも、
+ * {@link #newAsyncExecutor(String)}で生成した仮想スレッドの実行器を渡しておけば、このスケジューラと同じ実行器で実行され、
+ * {@link #close()}で一緒に終了します。</p>
  */
 @NullMarked
-public final class PluginScheduler {
+public final class PluginScheduler implements AutoCloseable {
+
+    private static final boolean FOLIA = detectFolia();
+
+    // Foliaのスケジューラはティックではなく時間で非同期タスクの遅延を指定する
+    private static final long MILLIS_PER_TICK = 50L;
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(3);
 
     private final Plugin plugin;
     private final BukkitScheduler scheduler;
+    private final ExecutorService asyncExecutor;
+
+    // プラグインの無効化時にキャンセルする未完了の非同期処理
+    private final Set<CompletableFuture<?>> pending;
 
     /**
      * 新しい{@code TemplateScheduler}インスタンスを構築します。
@@ -43,37 +102,533 @@ public final class PluginScheduler {
      * @param plugin このスケジューラがタスクを実行するプラグイン
      */
     public PluginScheduler(final Plugin plugin) {
+        this(plugin, newAsyncExecutor(plugin.getName()));
+    }
+
+    /**
+     * 指定された実行器で非同期処理を実行する、新しい{@code TemplateScheduler}インスタンスを構築します。
+     *
+     * <p>実行器は{@link #close()}でこのスケジューラと一緒に終了します。</p>
+     *
+     * @param plugin        このスケジューラがタスクを実行するプラグイン
+     * @param asyncExecutor {@link #newAsyncExecutor(String)}で生成した非同期処理の実行器
+     */
+    public PluginScheduler(final Plugin plugin, final ExecutorService asyncExecutor) {
         this.plugin = plugin;
         this.scheduler = Bukkit.getScheduler();
+        this.asyncExecutor = asyncExecutor;
+        this.pending = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * 非同期処理を仮想スレッドで実行する実行器を生成します。
+     *
+     * <p>プラグインのインスタンスが生成される前に非同期処理を始める場合は、ここで生成した実行器を
+     * {@link #PluginScheduler(Plugin, ExecutorService)}に渡し、スケジューラと寿命を揃えてください。</p>
+     *
+     * @param pluginName スレッド名に使用するプラグイン名
+     * @return 仮想スレッドの実行器
+     */
+    public static ExecutorService newAsyncExecutor(final String pluginName) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name(pluginName.toLowerCase(Locale.ROOT) + "-async-", 0)
+                .factory());
+    }
+
+    /**
+     * 非同期処理を実行する実行器を取得します。
+     *
+     * <p>{@link #close()}の後はタスクを受け付けず、{@link RejectedExecutionException}をスローします。</p>
+     *
+     * @return 仮想スレッドの実行器
+     */
+    public Executor asyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    /**
+     * Foliaで実行されているかどうかを返します。
+     *
+     * @return Foliaで実行されている場合は{@code true}
+     */
+    public static boolean isFolia() {
+        return FOLIA;
     }
 
     /**
      * 次のサーバーティックでタスクをメインスレッドで実行します。
      *
+     * <p>Foliaではグローバルリージョンのスレッドで実行されます。</p>
+     *
      * @param task 実行するタスク
+     * @return スケジュールされたタスク
      */
-    public void runTask(final Runnable task) {
-        this.scheduler.runTask(this.plugin, task);
+    public PluginTask runTask(final Runnable task) {
+        if (FOLIA) {
+            return folia(Bukkit.getGlobalRegionScheduler().run(this.plugin, scheduledTask -> task.run()));
+        }
+        return bukkit(this.scheduler.runTask(this.plugin, task));
     }
 
     /**
      * 指定された遅延後にタスクをメインスレッドで実行します。
      *
+     * <p>Foliaではグローバルリージョンのスレッドで実行されます。</p>
+     *
      * @param task  実行するタスク
      * @param delay タスクを実行するまでの遅延時間（ティック単位）
+     * @return スケジュールされたタスク
      */
-    public void runTaskLater(final Runnable task, final long delay) {
-        this.scheduler.runTaskLater(this.plugin, task, delay);
+    public PluginTask runTaskLater(final Runnable task, final long delay) {
+        if (FOLIA) {
+            return folia(Bukkit.getGlobalRegionScheduler().runDelayed(this.plugin, scheduledTask -> task.run(), atLeastOneTick(delay)));
+        }
+        return bukkit(this.scheduler.runTaskLater(this.plugin, task, delay));
     }
 
     /**
      * 指定された遅延後にタスクをメインスレッドで繰り返し実行します。
      *
+     * <p>Foliaではグローバルリージョンのスレッドで実行されます。</p>
+     *
+     * @param task   実行するタスク
+     * @param delay  タスクを最初に実行するまでの遅延時間（ティック単位）
+     * @param period タスクを繰り返し実行する間隔（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runTaskTimer(final Runnable task, final long delay, final long period) {
+        if (FOLIA) {
+            return folia(Bukkit.getGlobalRegionScheduler().runAtFixedRate(
+                    this.plugin, scheduledTask -> task.run(), atLeastOneTick(delay), atLeastOneTick(period)));
+        }
+        return bukkit(this.scheduler.runTaskTimer(this.plugin, task, delay, period));
+    }
+
+    /**
+     * 次のサーバーティックで、指定された位置を所有するスレッドでタスクを実行します。
+     *
+     * <p>Foliaでない場合はメインスレッドで実行されます。</p>
+     *
+     * @param location タスクが操作する位置
+     * @param task     実行するタスク
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runAtLocation(final Location location, final Runnable task) {
+        if (FOLIA) {
+            return folia(Bukkit.getRegionScheduler().run(this.plugin, location, scheduledTask -> task.run()));
+        }
+        return this.runTask(task);
+    }
+
+    /**
+     * 指定された遅延後に、指定された位置を所有するスレッドでタスクを実行します。
+     *
+     * <p>Foliaでない場合はメインスレッドで実行されます。</p>
+     *
+     * @param location タスクが操作する位置
+     * @param task     実行するタスク
+     * @param delay    タスクを実行するまでの遅延時間（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runAtLocationLater(final Location location, final Runnable task, final long delay) {
+        if (FOLIA) {
+            return folia(Bukkit.getRegionScheduler().runDelayed(this.plugin, location, scheduledTask -> task.run(), atLeastOneTick(delay)));
+        }
+        return this.runTaskLater(task, delay);
+    }
+
+    /**
+     * 指定された遅延後に、指定された位置を所有するスレッドでタスクを繰り返し実行します。
+     *
+     * <p>Foliaでない場合はメインスレッドで実行されます。</p>
+     *
+     * @param location タスクが操作する位置
+     * @param task     実行するタスク
+     * @param delay    タスクを最初に実行するまでの遅延時間（ティック単位）
+     * @param period   タスクを繰り返し実行する間隔（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runAtLocationTimer(final Location location, final Runnable task, final long delay, final long period) {
+        if (FOLIA) {
+            return folia(Bukkit.getRegionScheduler().runAtFixedRate(
+                    this.plugin, location, scheduledTask -> task.run(), atLeastOneTick(delay), atLeastOneTick(period)));
+        }
+        return this.runTaskTimer(task, delay, period);
+    }
+
+    /**
+     * 次のサーバーティックで、指定されたエンティティを所有するスレッドでタスクを実行します。
+     *
+     * <p>タスクが実行される前にエンティティが削除された場合 (ログアウトや死亡など) は、代わりに{@code retired}が実行されます。
+     * エンティティがすでに削除されている場合はスケジュールされず、キャンセル済みのタスクを返します。
+     * Foliaでない場合はメインスレッドで実行されます。</p>
+     *
+     * @param entity  タスクが操作するエンティティ
+     * @param task    実行するタスク
+     * @param retired エンティティが削除されていた場合に実行するタスク
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runForEntity(final Entity entity, final Runnable task, final @Nullable Runnable retired) {
+        return this.runForEntityLater(entity, task, retired, 0L);
+    }
+
+    /**
+     * 指定された遅延後に、指定されたエンティティを所有するスレッドでタスクを実行します。
+     *
+     * <p>タスクが実行される前にエンティティが削除された場合 (ログアウトや死亡など) は、代わりに{@code retired}が実行されます。
+     * エンティティがすでに削除されている場合はスケジュールされず、キャンセル済みのタスクを返します。
+     * Foliaでない場合はメインスレッドで実行されます。</p>
+     *
+     * @param entity  タスクが操作するエンティティ
+     * @param task    実行するタスク
+     * @param retired エンティティが削除されていた場合に実行するタスク
+     * @param delay   タスクを実行するまでの遅延時間（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runForEntityLater(final Entity entity, final Runnable task, final @Nullable Runnable retired, final long delay) {
+        if (FOLIA) {
+            final @Nullable ScheduledTask scheduledTask = delay <= 0L
+                    ? entity.getScheduler().run(this.plugin, ignored -> task.run(), retired)
+                    : entity.getScheduler().runDelayed(this.plugin, ignored -> task.run(), retired, delay);
+            return scheduledTask != null ? folia(scheduledTask) : retiredTask();
+        }
+
+        if (!entity.isValid()) {
+            return retiredTask();
+        }
+
+        final Runnable guarded = () -> {
+            if (entity.isValid()) {
+                task.run();
+            } else if (retired != null) {
+                retired.run();
+            }
+        };
+        return delay <= 0L ? this.runTask(guarded) : this.runTaskLater(guarded, delay);
+    }
+
+    /**
+     * 指定された遅延後に、指定されたエンティティを所有するスレッドでタスクを繰り返し実行します。
+     *
+     * <p>エンティティが削除されると繰り返しは終了し、{@code retired}が一度だけ実行されます。
+     * Foliaでない場合はメインスレッドで実行されます。</p>
+     *
+     * @param entity  タスクが操作するエンティティ
+     * @param task    実行するタスク
+     * @param retired エンティティが削除された場合に実行するタスク
+     * @param delay   タスクを最初に実行するまでの遅延時間（ティック単位）
+     * @param period  タスクを繰り返し実行する間隔（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runForEntityTimer(
+            final Entity entity,
+            final Runnable task,
+            final @Nullable Runnable retired,
+            final long delay,
+            final long period
+    ) {
+        if (FOLIA) {
+            final @Nullable ScheduledTask scheduledTask = entity.getScheduler().runAtFixedRate(
+                    this.plugin, ignored -> task.run(), retired, atLeastOneTick(delay), atLeastOneTick(period));
+            return scheduledTask != null ? folia(scheduledTask) : retiredTask();
+        }
+
+        if (!entity.isValid()) {
+            return retiredTask();
+        }
+
+        final BukkitTask[] self = new BukkitTask[1];
+        self[0] = this.scheduler.runTaskTimer(this.plugin, () -> {
+            if (entity.isValid()) {
+                task.run();
+                return;
+            }
+            self[0].cancel();
+            if (retired != null) {
+                retired.run();
+            }
+        }, delay, period);
+        return bukkit(self[0]);
+    }
+
+    /**
+     * タスクを非同期スレッドですぐに実行します。
+     *
+     * <p>非同期スレッドからはワールドやエンティティを操作しないでください。</p>
+     *
+     * @param task 実行するタスク
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runAsync(final Runnable task) {
+        if (FOLIA) {
+            return folia(Bukkit.getAsyncScheduler().runNow(this.plugin, scheduledTask -> task.run()));
+        }
+        return bukkit(this.scheduler.runTaskAsynchronously(this.plugin, task));
+    }
+
+    /**
+     * 指定された遅延後にタスクを非同期スレッドで実行します。
+     *
+     * @param task  実行するタスク
+     * @param delay タスクを実行するまでの遅延時間（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runAsyncLater(final Runnable task, final long delay) {
+        if (FOLIA) {
+            return folia(Bukkit.getAsyncScheduler().runDelayed(
+                    this.plugin, scheduledTask -> task.run(), Math.max(0L, delay) * MILLIS_PER_TICK, TimeUnit.MILLISECONDS));
+        }
+        return bukkit(this.scheduler.runTaskLaterAsynchronously(this.plugin, task, delay));
+    }
+
+    /**
+     * 指定された遅延後にタスクを非同期スレッドで繰り返し実行します。
+     *
      * @param task   実行するタスク
      * @param delay  タスクを最初に実行するまでの遅延時間（ティック単位）
      * @param period タスクを繰り返し実行する間隔（ティック単位）
+     * @return スケジュールされたタスク
+     */
+    public PluginTask runAsyncTimer(final Runnable task, final long delay, final long period) {
+        if (FOLIA) {
+            return folia(Bukkit.getAsyncScheduler().runAtFixedRate(
+                    this.plugin,
+                    scheduledTask -> task.run(),
+                    Math.max(0L, delay) * MILLIS_PER_TICK,
+                    atLeastOneTick(period) * MILLIS_PER_TICK,
+                    TimeUnit.MILLISECONDS));
+        }
+        return bukkit(this.scheduler.runTaskTimerAsynchronously(this.plugin, task, delay, period));
+    }
+
+    /**
+     * 現在のスレッドが指定された位置を所有しているかどうかを返します。
+     *
+     * <p>Foliaでない場合は、メインスレッドであるかどうかを返します。</p>
+     *
+     * @param location 位置
+     * @return 現在のスレッドで位置を操作できる場合は{@code true}
+     */
+    public static boolean isOwnedByCurrentThread(final Location location) {
+        return FOLIA ? Bukkit.isOwnedByCurrentRegion(location) : Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * 現在のスレッドが指定されたエンティティを所有しているかどうかを返します。
+     *
+     * <p>Foliaでない場合は、メインスレッドであるかどうかを返します。</p>
+     *
+     * @param entity エンティティ
+     * @return 現在のスレッドでエンティティを操作できる場合は{@code true}
+     */
+    public static boolean isOwnedByCurrentThread(final Entity entity) {
+        return FOLIA ? Bukkit.isOwnedByCurrentRegion(entity) : Bukkit.isPrimaryThread();
+    }
+
+    /**
+     * 処理を仮想スレッドで実行し、その結果を返す{@link CompletableFuture}を返します。
+     *
+     * <p>仮想スレッドはI/O待ちの間スレッドを占有しないため、ファイルの読み書きやデータベースへの問い合わせに適しています。
+     * 返された{@code CompletableFuture}をキャンセルすると、実行中の処理に割り込みが送られます。
+     * 非同期スレッドからはワールドやエンティティを操作しないでください。</p>
+     *
+     * @param task 実行する処理
+     * @param <T>  処理結果の型
+     * @return 処理結果を返す{@code CompletableFuture}
+     */
+    public <T> CompletableFuture<T> supplyAsync(final Callable<T> task) {
+        final CompletableFuture<T> result = this.track(new CompletableFuture<>());
+        final Future<?> execution;
+        try {
+            execution = this.asyncExecutor.submit(() -> {
+                try {
+                    result.complete(task.call());
+                } catch (final Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            result.completeExceptionally(new CancellationException("Scheduler has been closed"));
+            return result;
+        }
+
+        // キャンセルまたはタイムアウトした場合は実行中の処理に割り込む
+        result.whenComplete((value, failure) -> {
+            if (failure instanceof CancellationException || failure instanceof TimeoutException) {
+                execution.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 処理を仮想スレッドで実行し、その結果を返す{@link CompletableFuture}を返します。
+     *
+     * <p>指定された時間内に処理が完了しなかった場合、{@code CompletableFuture}は{@link TimeoutException}で完了し、
+     * 実行中の処理に割り込みが送られます。</p>
+     *
+     * @param task    実行する処理
+     * @param timeout 処理の制限時間
+     * @param <T>     処理結果の型
+     * @return 処理結果を返す{@code CompletableFuture}
+     */
+    public <T> CompletableFuture<T> supplyAsync(final Callable<T> task, final Duration timeout) {
+        return this.supplyAsync(task).orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 処理の完了後、その結果を使用してメインスレッドで処理を続けます。
+     *
+     * <p>Foliaではグローバルリージョンのスレッドで実行されます。
+     * 元の処理が失敗した場合、続きの処理は実行されず、返された{@code CompletableFuture}は同じ例外で完了します。</p>
+     *
+     * @param stage  元の処理
+     * @param action メインスレッドで実行する処理
+     * @param <T>    元の処理結果の型
+     * @param <U>    続きの処理結果の型
+     * @return 続きの処理結果を返す{@code CompletableFuture}
+     */
+    public <T, U> CompletableFuture<U> thenOnMainThread(final CompletionStage<T> stage, final Function<? super T, ? extends U> action) {
+        return this.continueOn(stage, action, (task, retired) -> this.runTask(task));
+    }
+
+    /**
+     * 処理の完了後、その結果を使用して指定されたエンティティを所有するスレッドで処理を続けます。
+     *
+     * <p>Foliaでない場合はメインスレッドで実行されます。
+     * 続きの処理が実行される前にエンティティが削除された場合、返された{@code CompletableFuture}は
+     * {@link CancellationException}で完了します。</p>
+     *
+     * @param stage  元の処理
+     * @param entity 続きの処理が操作するエンティティ
+     * @param action エンティティを所有するスレッドで実行する処理
+     * @param <T>    元の処理結果の型
+     * @param <U>    続きの処理結果の型
+     * @return 続きの処理結果を返す{@code CompletableFuture}
+     */
+    public <T, U> CompletableFuture<U> thenForEntity(
+            final CompletionStage<T> stage,
+            final Entity entity,
+            final Function<? super T, ? extends U> action
+    ) {
+        return this.continueOn(stage, action, (task, retired) -> this.runForEntity(entity, task, retired));
+    }
+
+    /**
+     * 非同期処理の受け付けを終了し、未完了の非同期処理をすべてキャンセルします。
+     *
+     * <p>プラグインの無効化時に呼び出してください。実行中の仮想スレッドには割り込みが送られ、
+     * 一定時間終了を待機します。スケジュール済みのサーバータスクはBukkitによってキャンセルされます。</p>
      */
-    public void runTaskTimer(final Runnable task, final long delay, final long period) {
-        this.scheduler.runTaskTimer(this.plugin, task, delay, period);
+    @Override
+    public void close() {
+        this.asyncExecutor.shutdownNow();
+        for (final CompletableFuture<?> future : this.pending) {
+            future.cancel(true);
+        }
+
+        try {
+            this.asyncExecutor.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T, U> CompletableFuture<U> continueOn(
+            final CompletionStage<T> stage,
+            final Function<? super T, ? extends U> action,
+            final BiFunction<Runnable, Runnable, PluginTask> dispatcher
+    ) {
+        final CompletableFuture<U> result = this.track(new CompletableFuture<>());
+        stage.whenComplete((value, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+
+            final Runnable retired = () -> result.completeExceptionally(new CancellationException("Entity has been removed"));
+            final Runnable task = () -> {
+                // プラグインの無効化などで先にキャンセルされている場合は実行しない
+                if (result.isDone()) {
+                    return;
+                }
+                try {
+                    result.complete(action.apply(value));
+                } catch (final Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+            };
+
+            try {
+                if (dispatcher.apply(task, retired).isCancelled()) {
+                    retired.run();
+                }
+            } catch (final RuntimeException exception) {
+                // プラグインが無効化された後はタスクをスケジュールできない
+                result.completeExceptionally(exception);
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> track(final CompletableFuture<T> future) {
+        this.pending.add(future);
+        future.whenComplete((value, failure) -> this.pending.remove(future));
+        return future;
+    }
+
+    private static boolean detectFolia() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (final ClassNotFoundException exception) {
+            return false;
+        }
+    }
+
+    // Foliaのスケジューラは遅延と間隔に1ティック以上を要求する
+    private static long atLeastOneTick(final long ticks) {
+        return Math.max(1L, ticks);
+    }
+
+    private static PluginTask bukkit(final BukkitTask task) {
+        return new PluginTask() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+
+    private static PluginTask folia(final ScheduledTask task) {
+        return new PluginTask() {
+            @Override
+            public void cancel() {
+                task.cancel();
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return task.isCancelled();
+            }
+        };
+    }
+
+    // エンティティがすでに削除されていてスケジュールできなかった場合
+    private static PluginTask retiredTask() {
+        return new PluginTask() {
+            @Override
+            public void cancel() { }
+
+            @Override
+            public boolean isCancelled() {
+                return true;
+            }
+        };
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.core.utility;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * <p>{@link PluginScheduler}でスケジュールされたタスクを操作するためのハンドルです。</p>
+ *
+ * <p>BukkitとFoliaのどちらのスケジューラで実行されているかに関係なく、同じ方法でタスクをキャンセルできます。</p>
+ */
+@NullMarked
+public interface PluginTask {
+
+    /**
+     * タスクをキャンセルします。
+     *
+     * <p>実行中のタスクは中断されませんが、繰り返しタスクの以降の実行は行われません。</p>
+     */
+    void cancel();
+
+    /**
+     * タスクがキャンセルされたかどうかを返します。
+     *
+     * @return キャンセルされた場合は{@code true}
+     */
+    boolean isCancelled();
+}
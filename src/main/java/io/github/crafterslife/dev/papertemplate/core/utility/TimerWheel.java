@@ -0,0 +1,458 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.core.utility;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>プラグインの遅延タスクと繰り返しタスクを1つのサーバータスクにまとめるタイマーホイールです。</p>
+ *
+ * <p>{@link PluginScheduler#runTaskTimer(Runnable, long, long)}は呼び出しごとにサーバーのタスクを登録するため、
+ * プレイヤーごとの繰り返しタイマーを数百個作るとサーバーのスケジューラに負荷がかかります。
+ * このクラスはすべてのタスクを{@value #WHEEL_SIZE}個のスロットを持つハッシュ化タイマーホイールで管理し、
+ * 1ティックに1回だけ実行されるサーバータスクから、そのティックのスロットに入っているタスクだけを実行します。
+ * 追加とキャンセルはどちらも定数時間で、キャンセルされたタスクは次のティックの開始時にホイールから取り除かれます。</p>
+ *
+ * <p>同じ間隔で同じティックに実行される繰り返しタスクは1つのグループにまとめられ、
+ * ホイール上では1つのエントリとして扱われます。</p>
+ *
+ * <p>タスクはメインスレッド (Foliaではグローバルリージョンのスレッド) で実行されます。
+ * 追加とキャンセルは任意のスレッドから行えます。タスクがない間はサーバータスクを停止します。</p>
+ */
+@NullMarked
+public final class TimerWheel implements AutoCloseable {
+
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    // タスクのハンドルの状態
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int DONE = 2;
+
+    private final Function<Runnable, PluginTask> timerStarter;
+    private final ComponentLogger logger;
+    private final Lock timerLock;
+
+    // 任意のスレッドから追加され、ティックの開始時に反映する
+    private final Queue<Handle> additions;
+    private final Queue<Handle> cancellations;
+
+    // 終了していないすべてのタスク (閉じるときにキャンセル済みにする)
+    private final Set<Handle> pending;
+
+    // 以下はタイマーのスレッドからのみ参照する
+    private final @Nullable Node[] buckets;
+    private final Map<GroupKey, Group> groups;
+    private long currentTick;
+    private int nodeCount;
+
+    private @Nullable PluginTask timer;
+    private volatile boolean closed;
+
+    private TimerWheel(final Function<Runnable, PluginTask> timerStarter, final ComponentLogger logger) {
+        this.timerStarter = timerStarter;
+        this.logger = logger;
+        this.timerLock = new ReentrantLock();
+        this.additions = new ConcurrentLinkedQueue<>();
+        this.cancellations = new ConcurrentLinkedQueue<>();
+        this.pending = ConcurrentHashMap.newKeySet();
+        this.buckets = new Node[WHEEL_SIZE];
+        this.groups = new HashMap<>();
+    }
+
+    /**
+     * 新しい{@code TimerWheel}を生成します。
+     *
+     * @param scheduler タイマーを実行するスケジューラ
+     * @param logger    タスクの例外を記録するロガー
+     * @return 生成された{@code TimerWheel}
+     */
+    public static TimerWheel create(final PluginScheduler scheduler, final ComponentLogger logger) {
+        return new TimerWheel(tick -> scheduler.runTaskTimer(tick, 1L, 1L), logger);
+    }
+
+    /**
+     * 指定された方法で毎ティックの処理を開始する{@code TimerWheel}を生成します。
+     *
+     * <p>サーバーなしでティックを進めるために使用します。</p>
+     *
+     * @param timerStarter 受け取った処理を1ティックごとに実行するタスクを開始する関数
+     * @param logger       タスクの例外を記録するロガー
+     * @return 生成された{@code TimerWheel}
+     */
+    static TimerWheel create(final Function<Runnable, PluginTask> timerStarter, final ComponentLogger logger) {
+        return new TimerWheel(timerStarter, logger);
+    }
+
+    /**
+     * 指定された遅延後にタスクを実行します。
+     *
+     * @param task  実行するタスク
+     * @param delay タスクを実行するまでの遅延時間（ティック単位）
+     * @return スケジュールされたタスク
+     * @throws IllegalStateException タイマーホイールが閉じられている場合
+     */
+    public PluginTask schedule(final Runnable task, final long delay) {
+        return this.add(new OneShot(task, Math.max(0L, delay)));
+    }
+
+    /**
+     * 指定された遅延後にタスクを繰り返し実行します。
+     *
+     * @param task   実行するタスク
+     * @param delay  タスクを最初に実行するまでの遅延時間（ティック単位）
+     * @param period タスクを繰り返し実行する間隔（ティック単位）
+     * @return スケジュールされたタスク
+     * @throws IllegalArgumentException 間隔が1未満の場合
+     * @throws IllegalStateException    タイマーホイールが閉じられている場合
+     */
+    public PluginTask scheduleRepeating(final Runnable task, final long delay, final long period) {
+        if (period < 1L) {
+            throw new IllegalArgumentException("Period must be at least 1 tick: " + period);
+        }
+        return this.add(new Repeating(task, Math.max(0L, delay), period));
+    }
+
+    /**
+     * タイマーホイールを閉じ、すべてのタスクを破棄します。
+     *
+     * <p>実行されていないタスクはキャンセル済みになります。</p>
+     */
+    @Override
+    public void close() {
+        this.timerLock.lock();
+        try {
+            this.closed = true;
+            this.stopTimer();
+            for (final Handle handle : this.pending) {
+                handle.state.compareAndSet(PENDING, CANCELLED);
+            }
+            this.pending.clear();
+            this.additions.clear();
+            this.cancellations.clear();
+        } finally {
+            this.timerLock.unlock();
+        }
+    }
+
+    private PluginTask add(final Handle handle) {
+        this.timerLock.lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("Timer wheel has been closed");
+            }
+            this.pending.add(handle);
+            this.additions.add(handle);
+            if (this.timer == null) {
+                this.timer = this.timerStarter.apply(this::tick);
+            }
+        } finally {
+            this.timerLock.unlock();
+        }
+        return handle;
+    }
+
+    private void tick() {
+        final long tick = ++this.currentTick;
+
+        Handle handle;
+        while ((handle = this.additions.poll()) != null) {
+            if (handle.isPending()) {
+                handle.attach(tick);
+            }
+        }
+        while ((handle = this.cancellations.poll()) != null) {
+            this.pending.remove(handle);
+            handle.detach();
+        }
+
+        final int bucket = (int) (tick & WHEEL_MASK);
+        Node node = this.buckets[bucket];
+        while (node != null) {
+            final @Nullable Node next = node.next;
+            // 同じスロットには1周以上先のエントリも入っている
+            if (node.deadline <= tick) {
+                this.unlink(node);
+                node.fire(tick);
+            }
+            node = next;
+        }
+
+        // 実行中に閉じられた場合は、ホイールに残ったエントリを捨てる
+        if (this.closed) {
+            Arrays.fill(this.buckets, null);
+            this.groups.clear();
+            this.nodeCount = 0;
+            return;
+        }
+
+        if (this.nodeCount == 0) {
+            this.timerLock.lock();
+            try {
+                // ロック中に追加されたタスクがなければタイマーを止める
+                if (this.additions.isEmpty()) {
+                    this.stopTimer();
+                }
+            } finally {
+                this.timerLock.unlock();
+            }
+        }
+    }
+
+    private void stopTimer() {
+        final PluginTask current = this.timer;
+        if (current != null) {
+            current.cancel();
+            this.timer = null;
+        }
+    }
+
+    // Bukkitと同じく、遅延0と1はどちらも次のティックに実行する
+    private static long deadline(final long tick, final long delay) {
+        return tick + Math.max(0L, delay - 1L);
+    }
+
+    private void link(final Node node) {
+        final int bucket = (int) (node.deadline & WHEEL_MASK);
+        final @Nullable Node head = this.buckets[bucket];
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        this.buckets[bucket] = node;
+        node.linked = true;
+        this.nodeCount++;
+    }
+
+    private void unlink(final Node node) {
+        if (!node.linked) {
+            return;
+        }
+
+        final @Nullable Node prev = node.prev;
+        final @Nullable Node next = node.next;
+        if (prev != null) {
+            prev.next = next;
+        } else {
+            this.buckets[(int) (node.deadline & WHEEL_MASK)] = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        this.nodeCount--;
+    }
+
+    private void run(final Runnable task) {
+        try {
+            task.run();
+        } catch (final Throwable throwable) {
+            this.logger.error("タイマータスクの実行中に例外が発生しました。", throwable);
+        }
+    }
+
+    /**
+     * ホイールのスロットに入るエントリ。
+     */
+    private abstract static class Node {
+
+        long deadline;
+        @Nullable Node prev;
+        @Nullable Node next;
+        boolean linked;
+
+        abstract void fire(long tick);
+    }
+
+    /**
+     * 呼び出し元に返すタスクのハンドル。
+     */
+    private abstract class Handle implements PluginTask {
+
+        // 実行待ちからキャンセル済みか実行済みへの遷移は一度だけ (cancel()とfire()の競合をCASで解決する)
+        final AtomicInteger state = new AtomicInteger(PENDING);
+
+        @Override
+        public void cancel() {
+            if (this.state.compareAndSet(PENDING, CANCELLED)) {
+                TimerWheel.this.cancellations.add(this);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.state.get() == CANCELLED;
+        }
+
+        boolean isPending() {
+            return this.state.get() == PENDING;
+        }
+
+        abstract void attach(long tick);
+
+        abstract void detach();
+    }
+
+    private final class OneShot extends Handle {
+
+        private final Node node;
+
+        OneShot(final Runnable task, final long delay) {
+            this.node = new Node() {
+                @Override
+                void fire(final long tick) {
+                    // 同じティックの他のタスクや別のスレッドからキャンセルされた場合は実行しない
+                    if (!OneShot.this.state.compareAndSet(PENDING, DONE)) {
+                        return;
+                    }
+                    TimerWheel.this.pending.remove(OneShot.this);
+                    TimerWheel.this.run(task);
+                }
+            };
+            this.node.deadline = delay;
+        }
+
+        @Override
+        void attach(final long tick) {
+            // 追加されるまでは遅延時間を保持している
+            this.node.deadline = deadline(tick, this.node.deadline);
+            TimerWheel.this.link(this.node);
+        }
+
+        @Override
+        void detach() {
+            TimerWheel.this.unlink(this.node);
+        }
+    }
+
+    private final class Repeating extends Handle {
+
+        private final Runnable task;
+        private final long delay;
+        private final long period;
+        private long startTick;
+        private @Nullable Group group;
+        private int index;
+
+        Repeating(final Runnable task, final long delay, final long period) {
+            this.task = task;
+            this.delay = delay;
+            this.period = period;
+        }
+
+        @Override
+        void attach(final long tick) {
+            this.startTick = deadline(tick, this.delay);
+            final GroupKey key = new GroupKey(this.period, Math.floorMod(this.startTick, this.period));
+            @Nullable Group target = TimerWheel.this.groups.get(key);
+            if (target == null) {
+                target = new Group(key);
+                target.deadline = this.startTick;
+                TimerWheel.this.link(target);
+                TimerWheel.this.groups.put(key, target);
+            } else if (this.startTick < target.deadline) {
+                // グループの次の実行より先に開始するタスクに合わせて、グループを前倒しする
+                TimerWheel.this.unlink(target);
+                target.deadline = this.startTick;
+                TimerWheel.this.link(target);
+            }
+            target.add(this);
+        }
+
+        @Override
+        void detach() {
+            final Group current = this.group;
+            if (current != null) {
+                current.remove(this);
+            }
+        }
+    }
+
+    /**
+     * 同じ間隔で同じティックに実行される繰り返しタスクのグループ。
+     */
+    private final class Group extends Node {
+
+        private final GroupKey key;
+        private final List<Repeating> members;
+
+        Group(final GroupKey key) {
+            this.key = key;
+            this.members = new ArrayList<>();
+        }
+
+        void add(final Repeating member) {
+            member.group = this;
+            member.index = this.members.size();
+            this.members.add(member);
+        }
+
+        // 末尾の要素と入れ替えて定数時間で取り除く
+        void remove(final Repeating member) {
+            final int last = this.members.size() - 1;
+            final Repeating moved = this.members.get(last);
+            this.members.set(member.index, moved);
+            moved.index = member.index;
+            this.members.remove(last);
+            member.group = null;
+
+            if (this.members.isEmpty()) {
+                TimerWheel.this.unlink(this);
+                TimerWheel.this.groups.remove(this.key);
+            }
+        }
+
+        @Override
+        void fire(final long tick) {
+            // タスク内で追加やキャンセルが行われても、反映は次のティックの開始時になる
+            for (int i = 0; i < this.members.size(); i++) {
+                final Repeating member = this.members.get(i);
+                // グループより後に開始するタスクは、最初の実行ティックまで待つ
+                if (member.isPending() && member.startTick <= tick) {
+                    TimerWheel.this.run(member.task);
+                }
+            }
+            this.deadline = tick + this.key.period();
+            TimerWheel.this.link(this);
+        }
+    }
+
+    private record GroupKey(long period, long phase) {
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+
+/**
+ * パース済みの設定ノードをバイナリ形式で保存し、YAMLのパースを省略するためのキャッシュ。
+ * <p>
+ * キャッシュファイルは設定ファイルと同じディレクトリに {@code .<設定ファイル名>.cache} として保存されます。
+ * キャッシュには元の設定ファイルのサイズ、更新日時、内容のSHA-256ハッシュが記録され、
+ * すべてが一致する場合のみ有効なキャッシュとして扱います。
+ */
+@NullMarked
+final class ConfigurationCache {
+
+    private static final int MAGIC = 0x50544343; // "PTCC"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_MAP = 1;
+    private static final byte TAG_LIST = 2;
+    private static final byte TAG_STRING = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_INTEGER = 5;
+    private static final byte TAG_LONG = 6;
+    private static final byte TAG_FLOAT = 7;
+    private static final byte TAG_DOUBLE = 8;
+
+    private final Path configPath;
+    private final Path cachePath;
+
+    /**
+     * 指定された設定ファイルのキャッシュを生成する。
+     *
+     * @param configPath 設定ファイルのパス
+     */
+    ConfigurationCache(final Path configPath) {
+        this.configPath = configPath;
+        this.cachePath = configPath.resolveSibling("." + configPath.getFileName() + ".cache");
+    }
+
+    /**
+     * キャッシュが有効であれば、キャッシュされた設定ノードを指定されたノードに読み込む。
+     * <p>
+     * キャッシュが存在しない、古い、または壊れている場合は {@code null} を返します。
+     *
+     * @param root   読み込み先の空のノード
+     * @param size   現在の設定ファイルのサイズ
+     * @param digest 現在の設定ファイルの内容のハッシュ
+     * @return キャッシュを読み込んだノード、またはキャッシュが無効な場合は {@code null}
+     */
+    @Nullable ConfigurationNode read(final ConfigurationNode root, final long size, final byte[] digest) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.cachePath)))) {
+
+            // ヘッダーを比較し、設定ファイルと一致しなければ中身は読まない
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            final long cachedSize = input.readLong();
+            final long cachedModified = input.readLong();
+            if (cachedSize != size || cachedModified != this.lastModified()) {
+                return null;
+            }
+            final byte[] cachedDigest = new byte[input.readInt()];
+            input.readFully(cachedDigest);
+            if (!Arrays.equals(cachedDigest, digest)) {
+                return null;
+            }
+
+            readNode(input, root);
+            return root;
+
+        } catch (final NoSuchFileException exception) {
+            return null;
+        } catch (final IOException | RuntimeException exception) {
+            return null; // 壊れたキャッシュはYAMLから読み直す
+        }
+    }
+
+    /**
+     * 指定された設定ノードをキャッシュに書き込む。
+     * <p>
+     * キャッシュはあくまで最適化のため、書き込みに失敗しても例外はスローしません。
+     *
+     * @param node   キャッシュする設定ノード
+     * @param size   設定ファイルのサイズ
+     * @param digest 設定ファイルの内容のハッシュ
+     * @return 書き込みに成功した場合は {@code true}
+     */
+    boolean write(final ConfigurationNode node, final long size, final byte[] digest) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(bytes)) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeLong(size);
+                output.writeLong(this.lastModified());
+                output.writeInt(digest.length);
+                output.write(digest);
+                writeNode(output, node);
+            }
+            ConfigurationLoader.writeAtomically(this.cachePath, bytes.toByteArray());
+            return true;
+        } catch (final IOException exception) {
+            return false;
+        }
+    }
+
+    private long lastModified() throws IOException {
+        return Files.getLastModifiedTime(this.configPath).toMillis();
+    }
+
+    private static void writeNode(final DataOutputStream output, final ConfigurationNode node) throws IOException {
+        if (node.isMap()) {
+            final Map<Object, ? extends ConfigurationNode> children = node.childrenMap();
+            output.writeByte(TAG_MAP);
+            output.writeInt(children.size());
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : children.entrySet()) {
+                writeScalar(output, entry.getKey());
+                writeNode(output, entry.getValue());
+            }
+        } else if (node.isList()) {
+            final List<? extends ConfigurationNode> children = node.childrenList();
+            output.writeByte(TAG_LIST);
+            output.writeInt(children.size());
+            for (final ConfigurationNode child : children) {
+                writeNode(output, child);
+            }
+        } else {
+            writeScalar(output, node.rawScalar());
+        }
+    }
+
+    private static void writeScalar(final DataOutputStream output, final @Nullable Object value) throws IOException {
+        switch (value) {
+            case null -> output.writeByte(TAG_NULL);
+            case final String string -> {
+                final byte[] encoded = string.getBytes(StandardCharsets.UTF_8);
+                output.writeByte(TAG_STRING);
+                output.writeInt(encoded.length);
+                output.write(encoded);
+            }
+            case final Boolean bool -> {
+                output.writeByte(TAG_BOOLEAN);
+                output.writeBoolean(bool);
+            }
+            case final Integer integer -> {
+                output.writeByte(TAG_INTEGER);
+                output.writeInt(integer);
+            }
+            case final Long longValue -> {
+                output.writeByte(TAG_LONG);
+                output.writeLong(longValue);
+            }
+            case final Float floatValue -> {
+                output.writeByte(TAG_FLOAT);
+                output.writeFloat(floatValue);
+            }
+            case final Double doubleValue -> {
+                output.writeByte(TAG_DOUBLE);
+                output.writeDouble(doubleValue);
+            }
+            default -> throw new IOException("Unsupported scalar type: " + value.getClass().getName());
+        }
+    }
+
+    private static void readNode(final DataInputStream input, final ConfigurationNode node) throws IOException {
+        final byte tag = input.readByte();
+        switch (tag) {
+            case TAG_MAP -> {
+                final int size = input.readInt();
+                if (size == 0) {
+                    node.raw(Map.of());
+                }
+                for (int i = 0; i < size; i++) {
+                    final Object key = readScalar(input, input.readByte());
+                    if (key == null) {
+                        throw new IOException("Map key must not be null");
+                    }
+                    readNode(input, node.node(key));
+                }
+            }
+            case TAG_LIST -> {
+                final int size = input.readInt();
+                if (size == 0) {
+                    node.raw(List.of());
+                }
+                for (int i = 0; i < size; i++) {
+                    readNode(input, node.appendListNode());
+                }
+            }
+            default -> node.raw(readScalar(input, tag));
+        }
+    }
+
+    private static @Nullable Object readScalar(final DataInputStream input, final byte tag) throws IOException {
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_STRING -> {
+                final byte[] encoded = new byte[input.readInt()];
+                input.readFully(encoded);
+                yield new String(encoded, StandardCharsets.UTF_8);
+            }
+            case TAG_BOOLEAN -> input.readBoolean();
+            case TAG_INTEGER -> input.readInt();
+            case TAG_LONG -> input.readLong();
+            case TAG_FLOAT -> input.readFloat();
+            case TAG_DOUBLE -> input.readDouble();
+            default -> throw new IOException("Unknown tag: " + tag);
+        };
+    }
+}
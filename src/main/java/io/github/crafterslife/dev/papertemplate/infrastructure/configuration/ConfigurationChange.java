@@ -0,0 +1,45 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.NodePath;
+
+/**
+ * 再読み込みによって変更された設定の値。
+ * <p>
+ * 値は設定ノードの生の値で、マップは {@link java.util.Map}、リストは {@link java.util.List}、
+ * それ以外は文字列や数値などのスカラー値として表されます。
+ *
+ * @param <C>      設定クラスの型
+ * @param path     購読しているパス
+ * @param oldValue 変更前の値、存在しなかった場合は {@code null}
+ * @param newValue 変更後の値、削除された場合は {@code null}
+ * @param snapshot 変更後の設定のスナップショット
+ */
+@NullMarked
+public record ConfigurationChange<C>(
+        NodePath path,
+        @Nullable Object oldValue,
+        @Nullable Object newValue,
+        ConfigurationSnapshot<C> snapshot
+) {
+}
@@ -20,15 +20,33 @@
 package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
 
 import io.papermc.paper.plugin.bootstrap.BootstrapContext;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
 
 /**
  * 設定の保持と再読み込みを管理するためのクラス。
  * <p>
  * このクラスは設定インスタンスの生成と、スレッドセーフな再読み込み機能を提供します。
+ * 設定は不変の {@link ConfigurationSnapshot} として保持され、読み取りはロックを取らずに
+ * volatile 読み込み1回で完了します。
+ * <p>
+ * 再読み込みの際には新旧の設定ノードを比較し、{@link #subscribe} で購読されたパスの値が変わった場合のみリスナーを呼び出します。
+ * <p>
+ * 直近の読み込みの計測結果は {@link #loadHistory()} から参照できます。
  *
  * @param <C> 設定クラスの型
  */
@@ -36,21 +54,41 @@ import org.jspecify.annotations.NullMarked;
 @SuppressWarnings("UnstableApiUsage")
 public final class ConfigurationHolder<C> {
 
+    // 保持する読み込み履歴の最大件数
+    private static final int HISTORY_SIZE = 32;
+
     private final ConfigurationLoader<C> configurationLoader;
+    private final Executor reloadExecutor;
     private final ComponentLogger logger;
 
-    private volatile C currentConfig;
-    private final ReadWriteLock lock;
+    private volatile ConfigurationSnapshot<C> currentSnapshot;
+    private final Lock reloadLock;
+    private ConfigurationNode currentNode; // reloadLockで保護
+    private final List<Subscriber<C>> subscribers;
+    private volatile List<ConfigurationLoadMetrics> loadHistory; // 書き込みはreloadLockで保護
+
+    // 非同期再読み込みの状態 (asyncLockで保護)
+    private final Lock asyncLock;
+    private @Nullable CompletableFuture<ConfigurationSnapshot<C>> runningReload;
+    private @Nullable CompletableFuture<ConfigurationSnapshot<C>> pendingReload;
 
     private ConfigurationHolder(
             final ConfigurationLoader<C> configurationLoader,
+            final Executor reloadExecutor,
             final ComponentLogger logger
     ) throws UncheckedConfigurateException {
         this.configurationLoader = configurationLoader;
+        this.reloadExecutor = reloadExecutor;
         this.logger = logger;
-        this.lock = new ReentrantReadWriteLock();
+        this.reloadLock = new ReentrantLock();
+        this.asyncLock = new ReentrantLock();
+        this.subscribers = new CopyOnWriteArrayList<>();
 
-        this.currentConfig = configurationLoader.load();
+        final LoadedConfiguration<C> loaded = configurationLoader.load();
+        final long swapStartTime = System.nanoTime();
+        this.currentSnapshot = ConfigurationSnapshot.initial(loaded.config());
+        this.currentNode = loaded.node();
+        this.loadHistory = List.of(loaded.metrics().withSwapTime(Duration.ofNanos(System.nanoTime() - swapStartTime)));
         logger.info("設定を読み込みました。");
     }
 
@@ -60,45 +98,269 @@ public final class ConfigurationHolder<C> {
      * @param <C> 設定クラスの型
      * @param configClass 設定クラス
      * @param context プラグインのブートストラップ中に提供されるコンテキスト
+     * @param reloadExecutor 非同期の再読み込みを実行する実行器 (プラグインのスケジューラと共有する)
+     * @return {@code ConfigHolder} の新しいインスタンス
+     * @throws UncheckedConfigurateException 設定の読み込みに失敗した場合
+     */
+    public static <C> ConfigurationHolder<C> from(
+            final Class<C> configClass,
+            final BootstrapContext context,
+            final Executor reloadExecutor
+    ) throws UncheckedConfigurateException {
+        return from(configClass, context.getDataDirectory(), reloadExecutor, context.getLogger());
+    }
+
+    /**
+     * 指定されたデータディレクトリの設定ファイルから {@code ConfigHolder} のインスタンスを生成して返す。
+     *
+     * @param <C>            設定クラスの型
+     * @param configClass    設定クラス
+     * @param dataDirectory  設定ファイルを置くディレクトリ
+     * @param reloadExecutor 非同期の再読み込みを実行する実行器
+     * @param logger         ロガー
      * @return {@code ConfigHolder} の新しいインスタンス
      * @throws UncheckedConfigurateException 設定の読み込みに失敗した場合
      */
-    public static <C> ConfigurationHolder<C> from(final Class<C> configClass, final BootstrapContext context) throws UncheckedConfigurateException {
-        final ConfigurationLoader<C> loader = ConfigurationLoader.from(configClass, context);
-        return new ConfigurationHolder<>(loader, context.getLogger());
+    static <C> ConfigurationHolder<C> from(
+            final Class<C> configClass,
+            final Path dataDirectory,
+            final Executor reloadExecutor,
+            final ComponentLogger logger
+    ) throws UncheckedConfigurateException {
+        final ConfigurationLoader<C> loader = ConfigurationLoader.from(configClass, dataDirectory);
+        return new ConfigurationHolder<>(loader, reloadExecutor, logger);
     }
 
     /**
      * 現在の設定を取得する。
      * <p>
-     * このメソッドはスレッドセーフで、常に一貫性のある設定インスタンスを返します。
+     * このメソッドはロックを取らずに最新のスナップショットを参照します。
+     * 複数回の呼び出しの間に再読み込みが挟まると異なるインスタンスが返るため、
+     * 一連の処理で同じ設定を使いたい場合は {@link #snapshot()} を使用してください。
      *
      * @return 現在の設定
      */
     public C getConfig() {
-        this.lock.readLock().lock();
-        try {
-            return this.currentConfig;
-        } finally {
-            this.lock.readLock().unlock();
-        }
+        return this.currentSnapshot.config();
+    }
+
+    /**
+     * 現在の設定のスナップショットを取得する。
+     * <p>
+     * 返されたスナップショットは再読み込みの影響を受けないため、処理の間ずっと同じ設定を参照し続けることができます。
+     *
+     * @return 現在のスナップショット
+     */
+    public ConfigurationSnapshot<C> snapshot() {
+        return this.currentSnapshot;
     }
 
     /**
      * 設定を再読み込みする。
      * <p>
-     * 再読み込み中は他のスレッドからの読み取りをブロックし、設定の一貫性を保証します。
+     * 読み込みが完了するまで古いスナップショットが読み取られ続け、完了した時点で新しいスナップショットに差し替えられます。
+     * 同時に呼び出された場合、再読み込みは1つずつ順番に実行されます。
+     * <p>
+     * 差し替えの後、値が変わったパスを購読しているリスナーが再読み込みを行ったスレッドで呼び出されます。
      *
+     * @return この再読み込みで差し替えたスナップショット
      * @throws UncheckedConfigurateException 設定の再読み込みに失敗した場合
      */
-    public void reloadConfig() throws UncheckedConfigurateException {
-        this.lock.writeLock().lock();
+    public ConfigurationSnapshot<C> reloadConfig() throws UncheckedConfigurateException {
+        this.reloadLock.lock();
         try {
             this.logger.info("設定を再読み込み中...");
-            this.currentConfig = this.configurationLoader.load();
-            this.logger.info("設定を再読み込みしました。");
+            final LoadedConfiguration<C> loaded = this.configurationLoader.load();
+            final long swapStartTime = System.nanoTime();
+            final ConfigurationNode previousNode = this.currentNode;
+            final ConfigurationSnapshot<C> snapshot = this.currentSnapshot.next(loaded.config());
+            this.currentSnapshot = snapshot;
+            this.currentNode = loaded.node();
+
+            this.notifySubscribers(previousNode, loaded.node(), snapshot);
+
+            final ConfigurationLoadMetrics metrics = loaded.metrics().withSwapTime(Duration.ofNanos(System.nanoTime() - swapStartTime));
+            this.recordLoad(metrics);
+            this.logger.info("設定を再読み込みしました ({} ms)", metrics.totalTime().toMillis());
+            return snapshot;
+        } finally {
+            this.reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 指定されたパスの値の変更を購読する。
+     * <p>
+     * 再読み込みの際、パス自身またはその子孫の値が変わった場合のみリスナーが呼び出されます。
+     * 値の変わらない再読み込みではリスナーは呼び出されないため、インデックスやコンパイル済みのパターンなど、
+     * 設定から生成する高価なデータの再構築をここで行うことができます。
+     * <p>
+     * リスナーは再読み込みを行ったスレッドで呼び出されます。Bukkit APIを使用する場合はメインスレッドに切り替えてください。
+     *
+     * @param listener 値が変わったときに呼び出されるリスナー
+     * @param path     購読するパス (空の場合は設定全体)
+     * @return 購読を解除するための {@link ConfigurationSubscription}
+     */
+    public ConfigurationSubscription subscribe(final Consumer<ConfigurationChange<C>> listener, final Object... path) {
+        final Subscriber<C> subscriber = new Subscriber<>(NodePath.of(path), listener);
+        this.subscribers.add(subscriber);
+        return () -> this.subscribers.remove(subscriber);
+    }
+
+    /**
+     * 設定をメインスレッド外で非同期に再読み込みする。
+     * <p>
+     * ファイルの読み込み、パース、マッピングはすべて生成時に渡された実行器のスレッドで行われ、成功した場合のみ新しいスナップショットに差し替えられます。
+     * 失敗した場合は現在のスナップショットがそのまま維持されます。
+     * 実行器が終了した後 (プラグインの無効化後) は、{@link RejectedExecutionException} で完了します。
+     * <p>
+     * 再読み込みの実行中に呼び出された場合、要求は1回の追加実行にまとめられます。
+     * 実行中の再読み込みがファイルの変更前に読み込みを始めている可能性があるため、
+     * 実行中の処理の完了後にもう一度だけ再読み込みを行い、その間に届いたすべての要求に同じ結果を返します。
+     *
+     * @return 再読み込み後のスナップショットで完了する {@link CompletableFuture}
+     */
+    public CompletableFuture<ConfigurationSnapshot<C>> reloadConfigAsync() {
+        this.asyncLock.lock();
+        try {
+            // 実行中の再読み込みがなければすぐに開始
+            if (this.runningReload == null) {
+                final CompletableFuture<ConfigurationSnapshot<C>> future = new CompletableFuture<>();
+                this.runningReload = future;
+                this.startReload(future);
+                return future;
+            }
+
+            // 実行中であれば、次の1回にまとめる
+            if (this.pendingReload == null) {
+                this.pendingReload = new CompletableFuture<>();
+            }
+            return this.pendingReload;
         } finally {
-            this.lock.writeLock().unlock();
+            this.asyncLock.unlock();
         }
     }
+
+    /**
+     * 直近の読み込みの計測結果を古い順に取得する。
+     * <p>
+     * 起動時の読み込みを含め、最大 {@value #HISTORY_SIZE} 件まで保持されます。
+     * 失敗した再読み込みは記録されません。
+     *
+     * @return 計測結果の変更不可能なリスト
+     */
+    public List<ConfigurationLoadMetrics> loadHistory() {
+        return this.loadHistory;
+    }
+
+    /**
+     * 最後に成功した読み込みの計測結果を取得する。
+     *
+     * @return 最新の計測結果
+     */
+    public ConfigurationLoadMetrics latestLoad() {
+        return this.loadHistory.getLast();
+    }
+
+    /**
+     * 設定ファイルのパスを取得する。
+     *
+     * @return 設定ファイルのパス
+     */
+    Path path() {
+        return this.configurationLoader.path();
+    }
+
+    /**
+     * 最後の読み込み以降に設定ファイルの内容が変更されたかどうかを判定する。
+     *
+     * @return 内容が変更されている場合は {@code true}
+     */
+    boolean isModifiedOnDisk() {
+        return this.configurationLoader.isModifiedSinceLastLoad();
+    }
+
+    private void recordLoad(final ConfigurationLoadMetrics metrics) {
+        // 読み取り側がロックを取らずに済むよう、毎回新しいリストに差し替える
+        final List<ConfigurationLoadMetrics> previous = this.loadHistory;
+        final List<ConfigurationLoadMetrics> history = new ArrayList<>(HISTORY_SIZE);
+        history.addAll(previous.subList(Math.max(0, previous.size() - HISTORY_SIZE + 1), previous.size()));
+        history.add(metrics);
+        this.loadHistory = List.copyOf(history);
+    }
+
+    private void startReload(final CompletableFuture<ConfigurationSnapshot<C>> future) {
+        try {
+            this.reloadExecutor.execute(() -> {
+                try {
+                    // ロックの解放後に別の再読み込みが差し替えている可能性があるため、この再読み込みの結果を返す
+                    future.complete(this.reloadConfig());
+                } catch (final Throwable throwable) {
+                    this.logger.error("設定の再読み込みに失敗しました。", throwable);
+                    future.completeExceptionally(throwable);
+                } finally {
+                    this.finishReload();
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            // プラグインの無効化で実行器が終了している
+            future.completeExceptionally(exception);
+            this.finishReload();
+        }
+    }
+
+    private void finishReload() {
+        this.asyncLock.lock();
+        try {
+            // 実行中に要求があれば続けて実行
+            this.runningReload = this.pendingReload;
+            this.pendingReload = null;
+            if (this.runningReload != null) {
+                this.startReload(this.runningReload);
+            }
+        } finally {
+            this.asyncLock.unlock();
+        }
+    }
+
+    private void notifySubscribers(
+            final ConfigurationNode previousNode,
+            final ConfigurationNode currentNode,
+            final ConfigurationSnapshot<C> snapshot
+    ) {
+        if (this.subscribers.isEmpty()) {
+            return;
+        }
+
+        // 値が変わったパスがなければ何もしない
+        final List<NodePath> changedPaths = ConfigurationNodes.changedPaths(previousNode, currentNode);
+        if (changedPaths.isEmpty()) {
+            return;
+        }
+
+        for (final Subscriber<C> subscriber : this.subscribers) {
+            final NodePath path = subscriber.path();
+            final boolean affected = changedPaths.stream().anyMatch(changedPath -> ConfigurationNodes.overlaps(changedPath, path));
+            if (!affected) {
+                continue;
+            }
+
+            // 変更されたリストの一部を購読している場合など、購読しているパスの値自体は変わっていないことがある
+            final ConfigurationNode previousValue = previousNode.node(path);
+            final ConfigurationNode currentValue = currentNode.node(path);
+            if (ConfigurationNodes.sameValues(previousValue, currentValue)) {
+                continue;
+            }
+
+            final ConfigurationChange<C> change = new ConfigurationChange<>(path, previousValue.raw(), currentValue.raw(), snapshot);
+            try {
+                subscriber.listener().accept(change);
+            } catch (final RuntimeException exception) {
+                this.logger.error("設定の変更の通知中に例外が発生しました: {}", path, exception);
+            }
+        }
+    }
+
+    private record Subscriber<C>(NodePath path, Consumer<ConfigurationChange<C>> listener) {
+    }
 }
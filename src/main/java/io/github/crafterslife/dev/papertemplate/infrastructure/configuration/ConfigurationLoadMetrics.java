@@ -0,0 +1,95 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * 設定ファイルの1回の読み込みにかかった時間と、読み込んだ内容の規模を記録したもの。
+ * <p>
+ * 読み込みは以下のフェーズに分けて計測されます。
+ * <ul>
+ *     <li>読み込み: 設定ファイルのバイト列の読み込みとダイジェストの計算</li>
+ *     <li>パース: YAMLまたはバイナリキャッシュから設定ノードへの変換</li>
+ *     <li>マッピング: 設定ノードから設定クラスへの変換と派生値の計算</li>
+ *     <li>書き戻し: 変更の判定と、必要な場合の設定ファイルとキャッシュへの書き込み</li>
+ *     <li>差し替え: スナップショットの差し替えと購読者への通知</li>
+ * </ul>
+ *
+ * @param fileName    設定ファイルの名前
+ * @param loadedAt    読み込みが完了した時刻
+ * @param readTime    読み込みにかかった時間
+ * @param parseTime   パースにかかった時間
+ * @param mapTime     マッピングにかかった時間
+ * @param writeTime   書き戻しにかかった時間
+ * @param swapTime    差し替えにかかった時間
+ * @param fileSize    設定ファイルのサイズ (バイト)
+ * @param nodeCount   設定ノードの数
+ * @param cacheHit    バイナリキャッシュからノードを復元した場合は {@code true}
+ * @param writtenBack 設定ファイルに書き戻した場合は {@code true}
+ */
+@NullMarked
+public record ConfigurationLoadMetrics(
+        String fileName,
+        Instant loadedAt,
+        Duration readTime,
+        Duration parseTime,
+        Duration mapTime,
+        Duration writeTime,
+        Duration swapTime,
+        long fileSize,
+        int nodeCount,
+        boolean cacheHit,
+        boolean writtenBack
+) {
+
+    /**
+     * すべてのフェーズの合計時間を取得する。
+     *
+     * @return 合計時間
+     */
+    public Duration totalTime() {
+        return this.readTime.plus(this.parseTime).plus(this.mapTime).plus(this.writeTime).plus(this.swapTime);
+    }
+
+    /**
+     * 差し替えにかかった時間を設定した新しい記録を生成する。
+     *
+     * @param newSwapTime 差し替えにかかった時間
+     * @return 新しい記録
+     */
+    ConfigurationLoadMetrics withSwapTime(final Duration newSwapTime) {
+        return new ConfigurationLoadMetrics(
+                this.fileName,
+                this.loadedAt,
+                this.readTime,
+                this.parseTime,
+                this.mapTime,
+                this.writeTime,
+                newSwapTime,
+                this.fileSize,
+                this.nodeCount,
+                this.cacheHit,
+                this.writtenBack
+        );
+    }
+}
@@ -19,12 +19,37 @@
  */
 package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
 
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers.MaterialListSerializer;
 import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers.MaterialSerializer;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers.MaterialSetSerializer;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers.PrimitiveCollectionSerializers;
 import io.papermc.paper.plugin.bootstrap.BootstrapContext;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import net.kyori.adventure.serializer.configurate4.ConfigurateComponentSerializer;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.Material;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
@@ -36,6 +61,8 @@ import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
  * YAML設定ファイルのローダーを構築するためのクラス。
  * <p>
  * このクラスは、設定ファイルのパス解決、TypeSerializerの構成、YAML設定ローダーの生成を担います。
+ * 設定クラスに {@link io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigLazySections} が
+ * 付与されている場合は、{@link #load()} の代わりに {@link #loadLazy(ComponentLogger)} で読み込みます。
  *
  * @param <C> 設定クラスの型
  */
@@ -43,12 +70,30 @@ import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
 @SuppressWarnings("UnstableApiUsage")
 final class ConfigurationLoader<C> {
 
+    // 一時ファイル名の衝突を避けるための乱数
+    private static final SecureRandom TEMPORARY_SUFFIX = new SecureRandom();
+
     private final Class<C> configClass;
-    private final YamlConfigurationLoader yamlLoader;
+    private final Path configPath;
+    private final ConfigurationOptions options;
+    private final @Nullable ConfigurationCache cache;
+    private final boolean lazySections;
+
+    // 最後に読み込んだ、または書き込んだファイル内容のダイジェスト
+    private volatile byte @Nullable [] lastKnownDigest;
 
-    private ConfigurationLoader(final Class<C> configClass, final YamlConfigurationLoader yamlLoader) {
+    private ConfigurationLoader(
+            final Class<C> configClass,
+            final Path configPath,
+            final ConfigurationOptions options,
+            final @Nullable ConfigurationCache cache,
+            final boolean lazySections
+    ) {
         this.configClass = configClass;
-        this.yamlLoader = yamlLoader;
+        this.configPath = configPath;
+        this.options = options;
+        this.cache = cache;
+        this.lazySections = lazySections;
     }
 
     /**
@@ -60,34 +105,57 @@ final class ConfigurationLoader<C> {
      * @return 生成された{@code ConfigurationLoader}
      */
     static <C> ConfigurationLoader<C> from(final Class<C> configClass, final BootstrapContext context) {
+        return from(configClass, context.getDataDirectory());
+    }
+
+    /**
+     * 指定されたデータディレクトリに設定ファイルを置く {@code ConfigurationLoader} を生成する。
+     *
+     * @param <C>           設定クラスの型
+     * @param configClass   設定クラス
+     * @param dataDirectory 設定ファイルを置くディレクトリ
+     * @return 生成された{@code ConfigurationLoader}
+     */
+    static <C> ConfigurationLoader<C> from(final Class<C> configClass, final Path dataDirectory) {
         final ConfigurationMetadata metadata = ConfigurationMetadata.create(configClass); // 設定ファイル名やヘッダー情報の取得
-        final Path configPath = context.getDataDirectory().resolve(metadata.fileName()); // 設定ファイルのパスを解決
-        final YamlConfigurationLoader yamlLoader = createYamlLoader(configPath, metadata.headerText()); // 設定ローダーの生成
+        final Path configPath = dataDirectory.resolve(metadata.fileName()); // 設定ファイルのパスを解決
+        final ConfigurationOptions options = createOptions(metadata.headerText()); // 設定オプションの生成
+        final ConfigurationCache cache = metadata.binaryCache() ? new ConfigurationCache(configPath) : null; // バイナリキャッシュ
 
-        return new ConfigurationLoader<>(configClass, yamlLoader);
+        return new ConfigurationLoader<>(configClass, configPath, options, cache, metadata.lazySections());
     }
 
-    private static YamlConfigurationLoader createYamlLoader(
-            final Path configPath,
-            final String headerText
-    ) {
+    /**
+     * 設定ファイルの読み込みに使用する設定オプションを生成する。
+     *
+     * @param headerText 設定ファイルのヘッダー文字列
+     * @return 設定オプション
+     */
+    static ConfigurationOptions createOptions(final String headerText) {
 
         // Adventureのシリアライザーコレクション
         final TypeSerializerCollection adventureSerializers = ConfigurateComponentSerializer.configurate().serializers();
 
         // 設定オプションの生成
-        final ConfigurationOptions options = ConfigurationOptions.defaults()
+        return ConfigurationOptions.defaults()
                 .shouldCopyDefaults(true) // デフォルト値をコピー
                 .header(headerText) // ヘッダー
                 .serializers(builder -> builder
                         .registerAll(adventureSerializers)
-                        .register(Material.class, new MaterialSerializer())); // Materialシリアライザー
+                        .register(Material.class, new MaterialSerializer()) // Materialシリアライザー
+                        .register(MaterialSetSerializer::supports, new MaterialSetSerializer()) // EnumSetを返すSet<Material>シリアライザー
+                        .register(MaterialListSerializer::supports, new MaterialListSerializer()) // EnumSetで所属判定するList<Material>シリアライザー
+                        .registerAll(PrimitiveCollectionSerializers.collection())); // プリミティブ型に特化したコレクションのシリアライザー
+    }
+
+    private YamlConfigurationLoader createYamlLoader(final String source, final StringWriter sink) {
 
-        // 設定ローダーを生成して返す
+        // ファイルの入出力は自前で行うため、ローダーはメモリ上の文字列に対して読み書きする
         return YamlConfigurationLoader.builder()
                 .nodeStyle(NodeStyle.BLOCK) // ブロックスタイル
-                .defaultOptions(options)
-                .path(configPath) // 設定ファイルのパス
+                .defaultOptions(this.options)
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .sink(() -> new BufferedWriter(sink))
                 .build();
     }
 
@@ -95,26 +163,233 @@ final class ConfigurationLoader<C> {
      * 設定を読み込む。
      * <p>
      * 設定ファイルが存在しない場合、デフォルト値を使用して新しい設定ファイルを生成します。
+     * 設定ファイルが存在する場合は、デフォルト値の追加などでマッピング後の内容が読み込んだ内容と異なるときのみ書き戻します。
+     * 書き込みは一時ファイルへの書き込みと置き換えで行われるため、途中で失敗しても既存のファイルが壊れることはありません。
+     * <p>
+     * バイナリキャッシュが有効で、設定ファイルがキャッシュ作成時から変更されていない場合はYAMLのパースを省略します。
+     * <p>
+     * マッピングの直後に {@link DerivedFields} を実装した設定オブジェクトの派生値を計算します。
+     * <p>
+     * 各フェーズの所要時間、ファイルサイズ、ノード数は {@link ConfigurationLoadMetrics} として結果に含まれます。
      *
-     * @return 読み込まれた設定
+     * @return 読み込まれた設定、設定ノード、計測結果
      * @throws UncheckedConfigurateException 読み込みに失敗した場合
+     * @throws IllegalStateException         設定クラスがセクション単位で遅延して読み込む設定の場合
      */
-    C load() throws UncheckedConfigurateException {
+    LoadedConfiguration<C> load() throws UncheckedConfigurateException {
+        if (this.lazySections) {
+            throw new IllegalStateException("Configuration is loaded lazily by section: " + this.configClass.getName());
+        }
 
         try {
-            final ConfigurationNode node = this.yamlLoader.load(); // 設定ノードの読み込み
+            final long startTime = System.nanoTime();
+            final byte @Nullable [] content = this.readContent(); // 設定ファイルの読み込み
+            final byte @Nullable [] contentDigest = content == null ? null : digest(content);
+            final long readTime = System.nanoTime();
+
+            final String source = content == null ? "" : new String(content, StandardCharsets.UTF_8);
+            final StringWriter sink = new StringWriter();
+            final YamlConfigurationLoader yamlLoader = this.createYamlLoader(source, sink);
+
+            // 設定ノードの読み込み (有効なキャッシュがあればYAMLのパースを省略)
+            final @Nullable ConfigurationNode cachedNode = this.readCache(yamlLoader, content, contentDigest);
+            final ConfigurationNode node = cachedNode != null ? cachedNode : yamlLoader.load();
+            final long parseTime = System.nanoTime();
+
+            final ConfigurationNode original = node.copy(); // 書き戻しの要否を判定するための複製
             final C config = node.get(this.configClass); // 設定ファイルを設定クラスにマッピング
             if (config == null) {
                 throw new ConfigurateException("Failed to deserialize " + this.configClass.getSimpleName());
             }
-
+            DerivedFieldsProcessor.process(config); // 派生値を一度だけ計算
             node.set(this.configClass, config);
-            this.yamlLoader.save(node); // 設定ファイルに保存
+            final long mapTime = System.nanoTime();
 
-            return config;
+            // 内容が変わらなければ書き戻さない
+            final boolean writtenBack;
+            final long fileSize;
+            if (content != null && contentDigest != null && ConfigurationNodes.sameValues(original, node)) {
+                this.lastKnownDigest = contentDigest;
+                if (cachedNode == null) {
+                    this.writeCache(node, content.length, contentDigest);
+                }
+                writtenBack = false;
+                fileSize = content.length;
+            } else {
+                yamlLoader.save(node); // 設定ファイルに保存
+                final byte[] written = sink.toString().getBytes(StandardCharsets.UTF_8);
+                try {
+                    writeAtomically(this.configPath, written);
+                } catch (final IOException exception) {
+                    throw new ConfigurateException("Failed to write " + this.configPath, exception);
+                }
+                final byte[] writtenDigest = digest(written);
+                this.lastKnownDigest = writtenDigest; // 自身の書き込みを変更として扱わないために記録
+                this.writeCache(node, written.length, writtenDigest);
+                writtenBack = true;
+                fileSize = written.length;
+            }
+            final long writeTime = System.nanoTime();
+
+            final ConfigurationLoadMetrics metrics = new ConfigurationLoadMetrics(
+                    this.configPath.getFileName().toString(),
+                    Instant.now(),
+                    Duration.ofNanos(readTime - startTime),
+                    Duration.ofNanos(parseTime - readTime),
+                    Duration.ofNanos(mapTime - parseTime),
+                    Duration.ofNanos(writeTime - mapTime),
+                    Duration.ZERO,
+                    fileSize,
+                    ConfigurationNodes.count(node),
+                    cachedNode != null,
+                    writtenBack
+            );
+            return new LoadedConfiguration<>(config, node, metrics);
 
         } catch (final ConfigurateException exception) {
             throw new UncheckedConfigurateException(exception);
         }
     }
+
+    /**
+     * 設定ファイルをトップレベルのセクション単位で索引し、{@link LazyConfiguration} として読み込む。
+     * <p>
+     * 各セクションは初めて要求されたときに、このローダーと同じシリアライザーでマッピングされます。
+     *
+     * @param logger ロガー
+     * @return 索引された設定
+     * @throws UncheckedConfigurateException 設定ファイルの読み込みまたは索引に失敗した場合
+     */
+    LazyConfiguration loadLazy(final ComponentLogger logger) throws UncheckedConfigurateException {
+        return LazyConfiguration.create(this.configPath, this.options, logger);
+    }
+
+    /**
+     * 設定クラスがセクション単位で遅延して読み込む設定かどうかを判定する。
+     *
+     * @return {@link #loadLazy(ComponentLogger)} で読み込む場合は {@code true}
+     */
+    boolean lazySections() {
+        return this.lazySections;
+    }
+
+    /**
+     * 設定ファイルのパスを取得する。
+     *
+     * @return 設定ファイルのパス
+     */
+    Path path() {
+        return this.configPath;
+    }
+
+    /**
+     * 最後の読み込み以降に設定ファイルの内容が変更されたかどうかを判定する。
+     * <p>
+     * 更新日時ではなく内容のダイジェストを比較するため、このローダー自身による書き込みや、
+     * 内容の変わらない上書きは変更として扱いません。
+     *
+     * @return 内容が変更されている場合は {@code true}
+     */
+    boolean isModifiedSinceLastLoad() {
+        try {
+            final byte @Nullable [] content = this.readContent();
+            return !Arrays.equals(this.lastKnownDigest, content == null ? null : digest(content));
+        } catch (final ConfigurateException exception) {
+            return true;
+        }
+    }
+
+    private @Nullable ConfigurationNode readCache(
+            final YamlConfigurationLoader yamlLoader,
+            final byte @Nullable [] content,
+            final byte @Nullable [] contentDigest
+    ) {
+        if (this.cache == null || content == null || contentDigest == null) {
+            return null;
+        }
+        return this.cache.read(yamlLoader.createNode(), content.length, contentDigest);
+    }
+
+    private void writeCache(final ConfigurationNode node, final long size, final byte[] contentDigest) {
+        if (this.cache != null) {
+            this.cache.write(node, size, contentDigest);
+        }
+    }
+
+    private byte @Nullable [] readContent() throws ConfigurateException {
+        try {
+            return Files.readAllBytes(this.configPath);
+        } catch (final NoSuchFileException exception) {
+            return null;
+        } catch (final IOException exception) {
+            throw new ConfigurateException("Failed to read " + this.configPath, exception);
+        }
+    }
+
+    /**
+     * 指定されたファイルに内容を書き込む。
+     * <p>
+     * 同じディレクトリの一時ファイルに書き込み、ディスクに同期してから置き換えるため、途中で失敗したりクラッシュしたりしても
+     * 既存のファイルは壊れません。既存のファイルのパーミッションは引き継がれ、新しいファイルは通常どおり umask に従います。
+     *
+     * @param target  書き込み先のファイル
+     * @param content 書き込む内容
+     * @throws IOException 書き込みに失敗した場合
+     */
+    static void writeAtomically(final Path target, final byte[] content) throws IOException {
+        final Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        // Files.createTempFileは所有者のみのパーミッション (0600) で作成するため使わない
+        final Path temporary = directory.resolve("." + target.getFileName() + "." + Long.toHexString(TEMPORARY_SUFFIX.nextLong()) + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true); // 置き換えの前に内容をディスクに書き出す
+            }
+            copyPermissions(target, temporary);
+
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException exception) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(temporary); // 置き換えに成功していれば何もしない
+        }
+    }
+
+    private static void copyPermissions(final Path source, final Path target) throws IOException {
+        final PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView == null) {
+            return; // POSIX以外のファイルシステム
+        }
+
+        try {
+            Files.setPosixFilePermissions(target, sourceView.readAttributes().permissions());
+        } catch (final NoSuchFileException exception) {
+            // 初回の書き込みでは引き継ぐパーミッションがない
+        }
+    }
+
+    private static void forceDirectory(final Path directory) {
+        // 置き換え (リネーム) 自体をディスクに書き出す。ディレクトリを開けないプラットフォーム (Windows) では何もしない
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (final IOException exception) {
+            // 置き換えは完了しているため、同期できなくても失敗にはしない
+        }
+    }
+
+    private static byte[] digest(final byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception); // SHA-256はすべてのJava実装で利用可能
+        }
+    }
 }
@@ -19,7 +19,9 @@
  */
 package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
 
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigCache;
 import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigHeader;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigLazySections;
 import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigName;
 import org.jspecify.annotations.NullMarked;
 
@@ -28,11 +30,13 @@ import org.jspecify.annotations.NullMarked;
  * <p>
  * このレコードは、アノテーションから抽出された設定ファイル名とヘッダー情報を保持します。
  *
- * @param fileName   設定ファイル名
- * @param headerText 設定ファイルのヘッダー文字列
+ * @param fileName     設定ファイル名
+ * @param headerText   設定ファイルのヘッダー文字列
+ * @param binaryCache  バイナリキャッシュを使用するかどうか
+ * @param lazySections セクション単位で遅延して読み込むかどうか
  */
 @NullMarked
-record ConfigurationMetadata(String fileName, String headerText) {
+record ConfigurationMetadata(String fileName, String headerText, boolean binaryCache, boolean lazySections) {
 
     ConfigurationMetadata {
         if (fileName.isBlank()) {
@@ -65,6 +69,12 @@ record ConfigurationMetadata(String fileName, String headerText) {
             throw new IllegalArgumentException(message);
         }
 
-        return new ConfigurationMetadata(configNameAnnotation.value(), headerAnnotation.value());
+        // クラスに@ConfigCacheアノテーションが付与されていればバイナリキャッシュを使用
+        final boolean binaryCache = configClass.isAnnotationPresent(ConfigCache.class);
+
+        // クラスに@ConfigLazySectionsアノテーションが付与されていればセクション単位で遅延して読み込む
+        final boolean lazySections = configClass.isAnnotationPresent(ConfigLazySections.class);
+
+        return new ConfigurationMetadata(configNameAnnotation.value(), headerAnnotation.value(), binaryCache, lazySections);
     }
 }
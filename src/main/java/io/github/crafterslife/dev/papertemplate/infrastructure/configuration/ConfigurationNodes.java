@@ -0,0 +1,178 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+
+/**
+ * 設定ノードの木を比較、集計するためのユーティリティークラス。
+ */
+@NullMarked
+final class ConfigurationNodes {
+
+    private ConfigurationNodes() {
+    }
+
+    /**
+     * 2つの設定ノードが同じ値を持つかどうかを判定する。
+     * <p>
+     * コメントは比較せず、マップ、リスト、スカラー値のみを比較します。
+     * YAMLから読み込んだ数値とマッピング後の数値は型が異なることがあるため、数値は値で比較します。
+     *
+     * @param first  比較するノード
+     * @param second 比較するノード
+     * @return 同じ値を持つ場合は {@code true}
+     */
+    static boolean sameValues(final ConfigurationNode first, final ConfigurationNode second) {
+        if (first.isMap() || second.isMap()) {
+            if (!first.isMap() || !second.isMap()) {
+                return false;
+            }
+
+            final Map<Object, ? extends ConfigurationNode> firstChildren = first.childrenMap();
+            final Map<Object, ? extends ConfigurationNode> secondChildren = second.childrenMap();
+            if (!firstChildren.keySet().equals(secondChildren.keySet())) {
+                return false;
+            }
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : firstChildren.entrySet()) {
+                if (!sameValues(entry.getValue(), Objects.requireNonNull(secondChildren.get(entry.getKey())))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (first.isList() || second.isList()) {
+            if (!first.isList() || !second.isList()) {
+                return false;
+            }
+
+            final List<? extends ConfigurationNode> firstChildren = first.childrenList();
+            final List<? extends ConfigurationNode> secondChildren = second.childrenList();
+            if (firstChildren.size() != secondChildren.size()) {
+                return false;
+            }
+            final Iterator<? extends ConfigurationNode> iterator = secondChildren.iterator();
+            for (final ConfigurationNode child : firstChildren) {
+                if (!sameValues(child, iterator.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        return sameScalar(first.rawScalar(), second.rawScalar());
+    }
+
+    /**
+     * 2つの設定ノードの間で値が変わったパスを列挙する。
+     * <p>
+     * マップは子ごとに比較し、リストとスカラー値は全体を1つの値として比較します。
+     * 返されるパスは、値が変わった最も深いマップの子、リスト、またはスカラー値のパスです。
+     *
+     * @param previous 変更前のノード
+     * @param current  変更後のノード
+     * @return 値が変わったパスのリスト
+     */
+    static List<NodePath> changedPaths(final ConfigurationNode previous, final ConfigurationNode current) {
+        final List<NodePath> changes = new ArrayList<>();
+        collectChanges(previous, current, changes);
+        return changes;
+    }
+
+    /**
+     * 2つのパスの一方が他方の祖先、または同じパスであるかどうかを判定する。
+     *
+     * @param first  パス
+     * @param second パス
+     * @return 一方が他方を含む場合は {@code true}
+     */
+    static boolean overlaps(final NodePath first, final NodePath second) {
+        final int length = Math.min(first.size(), second.size());
+        for (int i = 0; i < length; i++) {
+            if (!Objects.equals(first.get(i), second.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 設定ノードとその子孫の数を数える。
+     *
+     * @param node 数えるノード
+     * @return ノード自身を含む子孫の数
+     */
+    static int count(final ConfigurationNode node) {
+        int count = 1;
+        if (node.isMap()) {
+            for (final ConfigurationNode child : node.childrenMap().values()) {
+                count += count(child);
+            }
+        } else if (node.isList()) {
+            for (final ConfigurationNode child : node.childrenList()) {
+                count += count(child);
+            }
+        }
+        return count;
+    }
+
+    private static void collectChanges(final ConfigurationNode previous, final ConfigurationNode current, final List<NodePath> changes) {
+        if (previous.isMap() && current.isMap()) {
+            final Map<Object, ? extends ConfigurationNode> previousChildren = previous.childrenMap();
+            final Map<Object, ? extends ConfigurationNode> currentChildren = current.childrenMap();
+
+            final Set<Object> keys = new HashSet<>(previousChildren.keySet());
+            keys.addAll(currentChildren.keySet());
+            for (final Object key : keys) {
+                collectChanges(previous.node(key), current.node(key), changes);
+            }
+            return;
+        }
+
+        if (!sameValues(previous, current)) {
+            changes.add(current.path());
+        }
+    }
+
+    private static boolean sameScalar(final @Nullable Object first, final @Nullable Object second) {
+        if (first instanceof Number firstNumber && second instanceof Number secondNumber) {
+            if (isIntegral(firstNumber) && isIntegral(secondNumber)) {
+                return firstNumber.longValue() == secondNumber.longValue();
+            }
+            return Double.compare(firstNumber.doubleValue(), secondNumber.doubleValue()) == 0;
+        }
+        return Objects.equals(first, second);
+    }
+
+    private static boolean isIntegral(final Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import io.papermc.paper.plugin.bootstrap.BootstrapContext;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 複数の設定クラスをまとめて読み込み、型ごとに参照するためのクラス。
+ * <p>
+ * 設定ファイルは並行して読み込まれるため、起動時間はすべてのファイルの合計ではなく、最も遅いファイルの読み込み時間で決まります。
+ * <p>
+ * {@link io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigLazySections} が付与された設定クラスは
+ * 索引のみが行われ、{@link #lazy(Class)} から {@link LazyConfiguration} として参照します。
+ */
+@NullMarked
+@SuppressWarnings("UnstableApiUsage")
+public final class ConfigurationRegistry {
+
+    private final Map<Class<?>, ConfigurationHolder<?>> holders;
+    private final Map<Class<?>, LazyConfiguration> lazyConfigurations;
+    private final Map<Class<?>, Duration> loadTimes;
+    private final Executor reloadExecutor;
+
+    private ConfigurationRegistry(
+            final Map<Class<?>, ConfigurationHolder<?>> holders,
+            final Map<Class<?>, LazyConfiguration> lazyConfigurations,
+            final Map<Class<?>, Duration> loadTimes,
+            final Executor reloadExecutor
+    ) {
+        this.holders = Collections.unmodifiableMap(holders);
+        this.lazyConfigurations = Collections.unmodifiableMap(lazyConfigurations);
+        this.loadTimes = Collections.unmodifiableMap(loadTimes);
+        this.reloadExecutor = reloadExecutor;
+    }
+
+    /**
+     * 指定された設定クラスをすべて並行して読み込み、{@code ConfigurationRegistry} を生成する。
+     * <p>
+     * いずれかの設定の読み込みに失敗した場合でも、すべての読み込みが終わるまで待ってから例外をスローします。
+     * 2つ目以降の失敗は抑制された例外として追加されます。
+     *
+     * @param configClasses  設定クラスの集合
+     * @param context        プラグインのブートストラップ中に提供されるコンテキスト
+     * @param reloadExecutor 非同期の再読み込みを実行する実行器 (プラグインのスケジューラと共有する)
+     * @return 生成された {@code ConfigurationRegistry}
+     * @throws UncheckedConfigurateException いずれかの設定の読み込みに失敗した場合
+     */
+    public static ConfigurationRegistry load(
+            final Set<Class<?>> configClasses,
+            final BootstrapContext context,
+            final Executor reloadExecutor
+    ) throws UncheckedConfigurateException {
+        final ComponentLogger logger = context.getLogger();
+        final long startTime = System.nanoTime();
+
+        // 設定クラスごとに読み込みを開始
+        final Map<Class<?>, Future<TimedLoad>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final Class<?> configClass : configClasses) {
+                futures.put(configClass, executor.submit(() -> TimedLoad.load(configClass, context, reloadExecutor)));
+            }
+        } // すべての読み込みが終わるまで待機
+
+        // 結果の回収
+        final Map<Class<?>, ConfigurationHolder<?>> holders = new LinkedHashMap<>();
+        final Map<Class<?>, LazyConfiguration> lazyConfigurations = new LinkedHashMap<>();
+        final Map<Class<?>, Duration> loadTimes = new LinkedHashMap<>();
+        final List<Throwable> failures = new ArrayList<>();
+        for (final Map.Entry<Class<?>, Future<TimedLoad>> entry : futures.entrySet()) {
+            try {
+                final TimedLoad result = entry.getValue().get();
+                final @Nullable ConfigurationHolder<?> holder = result.holder();
+                final @Nullable LazyConfiguration lazy = result.lazy();
+                if (holder != null) {
+                    holders.put(entry.getKey(), holder);
+                }
+                if (lazy != null) {
+                    lazyConfigurations.put(entry.getKey(), lazy);
+                }
+                loadTimes.put(entry.getKey(), result.loadTime());
+                logger.info("{} を読み込みました ({} ms)", result.path().getFileName(), result.loadTime().toMillis());
+            } catch (final ExecutionException exception) {
+                failures.add(exception.getCause());
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                failures.add(exception);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            final String message = "Failed to load %d configuration(s)".formatted(failures.size());
+            final UncheckedConfigurateException exception = new UncheckedConfigurateException(message, failures.getFirst());
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+
+        final Duration totalTime = Duration.ofNanos(System.nanoTime() - startTime);
+        logger.info("{} 個の設定を読み込みました ({} ms)", loadTimes.size(), totalTime.toMillis());
+
+        return new ConfigurationRegistry(holders, lazyConfigurations, loadTimes, reloadExecutor);
+    }
+
+    /**
+     * 指定された設定クラスの設定ホルダーを取得する。
+     *
+     * @param <C>         設定クラスの型
+     * @param configClass 設定クラス
+     * @return 設定ホルダー
+     * @throws IllegalArgumentException 設定クラスがこのレジストリに登録されていない場合、またはセクション単位で遅延して読み込む設定の場合
+     */
+    @SuppressWarnings("unchecked")
+    public <C> ConfigurationHolder<C> holder(final Class<C> configClass) throws IllegalArgumentException {
+        final ConfigurationHolder<?> holder = this.holders.get(configClass);
+        if (holder == null) {
+            throw new IllegalArgumentException("Configuration class is not registered: " + configClass.getName());
+        }
+        return (ConfigurationHolder<C>) holder;
+    }
+
+    /**
+     * 指定された設定クラスの現在の設定を取得する。
+     *
+     * @param <C>         設定クラスの型
+     * @param configClass 設定クラス
+     * @return 現在の設定
+     * @throws IllegalArgumentException 設定クラスがこのレジストリに登録されていない場合
+     */
+    public <C> C config(final Class<C> configClass) throws IllegalArgumentException {
+        return this.holder(configClass).getConfig();
+    }
+
+    /**
+     * セクション単位で遅延して読み込む設定クラスの設定を取得する。
+     *
+     * @param configClass {@link io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigLazySections}
+     *                    が付与された設定クラス
+     * @return 索引された設定
+     * @throws IllegalArgumentException 設定クラスがこのレジストリに遅延して読み込む設定として登録されていない場合
+     */
+    public LazyConfiguration lazy(final Class<?> configClass) throws IllegalArgumentException {
+        final LazyConfiguration lazyConfiguration = this.lazyConfigurations.get(configClass);
+        if (lazyConfiguration == null) {
+            throw new IllegalArgumentException("Lazy configuration class is not registered: " + configClass.getName());
+        }
+        return lazyConfiguration;
+    }
+
+    /**
+     * 登録されているすべての設定ホルダーを取得する。
+     *
+     * @return 設定ホルダーの変更不可能なコレクション
+     */
+    public Collection<ConfigurationHolder<?>> holders() {
+        return this.holders.values();
+    }
+
+    /**
+     * 起動時の設定クラスごとの読み込み時間を取得する。
+     *
+     * @return 設定クラスと読み込み時間の変更不可能なマップ
+     */
+    public Map<Class<?>, Duration> loadTimes() {
+        return this.loadTimes;
+    }
+
+    /**
+     * 登録されているすべての設定を非同期に再読み込みする。
+     * <p>
+     * セクション単位で遅延して読み込む設定は索引し直され、マッピング済みのセクションは破棄されます。
+     *
+     * @return すべての再読み込みが完了したときに完了する {@link CompletableFuture}
+     * @see ConfigurationHolder#reloadConfigAsync()
+     */
+    public CompletableFuture<Void> reloadAllAsync() {
+        final List<CompletableFuture<?>> futures = new ArrayList<>();
+        this.holders.values().forEach(holder -> futures.add(holder.reloadConfigAsync()));
+        this.lazyConfigurations.values().forEach(lazyConfiguration ->
+                futures.add(CompletableFuture.runAsync(lazyConfiguration::reload, this.reloadExecutor)));
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    // 読み込んだ設定ホルダー、またはセクション単位で遅延して読み込む設定のどちらか一方を保持する
+    private record TimedLoad(
+            @Nullable ConfigurationHolder<?> holder,
+            @Nullable LazyConfiguration lazy,
+            Path path,
+            Duration loadTime
+    ) {
+
+        static TimedLoad load(final Class<?> configClass, final BootstrapContext context, final Executor reloadExecutor) {
+            final long startTime = System.nanoTime();
+            final ConfigurationLoader<?> loader = ConfigurationLoader.from(configClass, context);
+            if (loader.lazySections()) {
+                final LazyConfiguration lazy = loader.loadLazy(context.getLogger());
+                return new TimedLoad(null, lazy, lazy.path(), Duration.ofNanos(System.nanoTime() - startTime));
+            }
+
+            final ConfigurationHolder<?> holder = ConfigurationHolder.from(configClass, context, reloadExecutor);
+            return new TimedLoad(holder, null, holder.path(), Duration.ofNanos(System.nanoTime() - startTime));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import java.time.Instant;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * ある時点で読み込まれた設定の不変スナップショット。
+ * <p>
+ * 再読み込みのたびに新しいスナップショットが生成され、{@link ConfigurationHolder} が保持する参照が差し替えられます。
+ * 一連の処理の間で同じ設定を参照し続けたい場合は、スナップショットを取得して使い回してください。
+ *
+ * @param <C>      設定クラスの型
+ * @param config   設定インスタンス
+ * @param version  単調増加するスナップショットのバージョン (最初の読み込みが {@code 1})
+ * @param loadedAt スナップショットが生成された時刻
+ */
+@NullMarked
+public record ConfigurationSnapshot<C>(C config, long version, Instant loadedAt) {
+
+    /**
+     * 指定された設定から、このスナップショットの次のバージョンを生成する。
+     *
+     * @param nextConfig 新しい設定インスタンス
+     * @return 次のバージョンのスナップショット
+     */
+    ConfigurationSnapshot<C> next(final C nextConfig) {
+        return new ConfigurationSnapshot<>(nextConfig, this.version + 1, Instant.now());
+    }
+
+    /**
+     * 最初のバージョンのスナップショットを生成する。
+     *
+     * @param <C>    設定クラスの型
+     * @param config 設定インスタンス
+     * @return 最初のバージョンのスナップショット
+     */
+    static <C> ConfigurationSnapshot<C> initial(final C config) {
+        return new ConfigurationSnapshot<>(config, 1L, Instant.now());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * {@link ConfigurationHolder#subscribe} による購読を表すインターフェース。
+ */
+@NullMarked
+@FunctionalInterface
+public interface ConfigurationSubscription {
+
+    /**
+     * 購読を解除する。
+     * <p>
+     * 解除後は、以降の再読み込みでリスナーが呼び出されることはありません。
+     */
+    void unsubscribe();
+}
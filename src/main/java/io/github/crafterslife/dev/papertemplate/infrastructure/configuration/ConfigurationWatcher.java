@@ -0,0 +1,216 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 設定ファイルの変更を監視し、自動で再読み込みするためのクラス。
+ * <p>
+ * 登録されたすべての {@link ConfigurationHolder} を1本の監視スレッドで扱います。
+ * 短時間に連続した書き込みは1回にまとめられ (デバウンス)、最後の書き込みから一定時間が経過した時点で
+ * {@link ConfigurationHolder#reloadConfigAsync()} が呼び出されます。
+ * ファイルの内容が最後の読み込みから変わっていない場合 (ローダー自身の書き込みなど) は再読み込みしません。
+ */
+@NullMarked
+public final class ConfigurationWatcher implements AutoCloseable {
+
+    private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(250);
+
+    private final WatchService watchService;
+    private final ComponentLogger logger;
+    private final long debounceNanos;
+    private final Map<Path, ConfigurationHolder<?>> holders;
+    private final Set<Path> directories;
+    private final Thread thread;
+
+    // 監視スレッドからのみ参照する
+    private final Map<Path, Long> deadlines;
+
+    private ConfigurationWatcher(final WatchService watchService, final ComponentLogger logger, final Duration debounce) {
+        this.watchService = watchService;
+        this.logger = logger;
+        this.debounceNanos = debounce.toNanos();
+        this.holders = new ConcurrentHashMap<>();
+        this.directories = ConcurrentHashMap.newKeySet();
+        this.deadlines = new HashMap<>();
+        this.thread = Thread.ofPlatform()
+                .name("config-watcher")
+                .daemon(true)
+                .unstarted(this::run);
+    }
+
+    /**
+     * デフォルトのデバウンス時間で {@code ConfigurationWatcher} を生成し、監視スレッドを開始する。
+     *
+     * @param logger ロガー
+     * @return 生成された {@code ConfigurationWatcher}
+     * @throws UncheckedIOException 監視サービスの生成に失敗した場合
+     */
+    public static ConfigurationWatcher create(final ComponentLogger logger) throws UncheckedIOException {
+        return create(logger, DEFAULT_DEBOUNCE);
+    }
+
+    /**
+     * 指定されたデバウンス時間で {@code ConfigurationWatcher} を生成し、監視スレッドを開始する。
+     *
+     * @param logger   ロガー
+     * @param debounce 最後の書き込みから再読み込みまでの待機時間
+     * @return 生成された {@code ConfigurationWatcher}
+     * @throws UncheckedIOException 監視サービスの生成に失敗した場合
+     */
+    public static ConfigurationWatcher create(final ComponentLogger logger, final Duration debounce) throws UncheckedIOException {
+        try {
+            final ConfigurationWatcher watcher = new ConfigurationWatcher(FileSystems.getDefault().newWatchService(), logger, debounce);
+            watcher.thread.start();
+            return watcher;
+        } catch (final IOException exception) {
+            throw new UncheckedIOException("Failed to create watch service", exception);
+        }
+    }
+
+    /**
+     * 指定された設定ホルダーの設定ファイルを監視対象に追加する。
+     *
+     * @param holder 監視する設定ホルダー
+     * @throws UncheckedIOException ディレクトリの監視登録に失敗した場合
+     */
+    public void watch(final ConfigurationHolder<?> holder) throws UncheckedIOException {
+        final Path file = holder.path().toAbsolutePath().normalize();
+        final Path directory = file.getParent();
+
+        try {
+            // 同じディレクトリの設定ファイルは1つの監視キーを共有する
+            if (this.directories.add(directory)) {
+                Files.createDirectories(directory);
+                directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        } catch (final IOException exception) {
+            this.directories.remove(directory);
+            throw new UncheckedIOException("Failed to watch " + directory, exception);
+        }
+
+        this.holders.put(file, holder);
+    }
+
+    /**
+     * 監視を停止し、監視スレッドを終了する。
+     */
+    @Override
+    public void close() {
+        try {
+            this.watchService.close();
+        } catch (final IOException exception) {
+            this.logger.warn("設定ファイルの監視の停止に失敗しました。", exception);
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = this.pollKey();
+                if (key != null) {
+                    this.handleEvents(key);
+                }
+                this.fireDueReloads();
+            }
+        } catch (final ClosedWatchServiceException | InterruptedException exception) {
+            // 監視の停止
+        }
+    }
+
+    private @Nullable WatchKey pollKey() throws InterruptedException {
+        if (this.deadlines.isEmpty()) {
+            return this.watchService.take();
+        }
+
+        // 最も近い期限まで待機
+        final long now = System.nanoTime();
+        long wait = Long.MAX_VALUE;
+        for (final long deadline : this.deadlines.values()) {
+            wait = Math.min(wait, deadline - now);
+        }
+        return this.watchService.poll(Math.max(wait, 0L), TimeUnit.NANOSECONDS);
+    }
+
+    private void handleEvents(final WatchKey key) {
+        final Path directory = (Path) key.watchable();
+        final long deadline = System.nanoTime() + this.debounceNanos;
+
+        for (final WatchEvent<?> event : key.pollEvents()) {
+
+            // イベントが溢れた場合は、このディレクトリのすべての設定ファイルを対象にする
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                for (final Path file : this.holders.keySet()) {
+                    if (file.getParent().equals(directory)) {
+                        this.deadlines.put(file, deadline);
+                    }
+                }
+                continue;
+            }
+
+            final Path file = directory.resolve((Path) event.context());
+            if (this.holders.containsKey(file)) {
+                this.deadlines.put(file, deadline); // 書き込みが続く限り期限を延長
+            }
+        }
+
+        key.reset();
+    }
+
+    private void fireDueReloads() {
+        final long now = System.nanoTime();
+        final Iterator<Map.Entry<Path, Long>> iterator = this.deadlines.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Path, Long> entry = iterator.next();
+            if (entry.getValue() - now > 0L) {
+                continue;
+            }
+            iterator.remove();
+
+            final ConfigurationHolder<?> holder = this.holders.get(entry.getKey());
+            if (holder == null || !holder.isModifiedOnDisk()) {
+                continue; // ローダー自身の書き込み、または内容の変わらない書き込み
+            }
+
+            this.logger.info("設定ファイルの変更を検知しました: {}", entry.getKey().getFileName());
+            holder.reloadConfigAsync();
+        }
+    }
+}
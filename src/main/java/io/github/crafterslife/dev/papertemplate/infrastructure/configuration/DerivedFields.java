@@ -0,0 +1,67 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import org.jspecify.annotations.NullMarked;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+/**
+ * 読み込み時に一度だけ計算される派生値を持つ設定クラスのためのインターフェース。
+ * <p>
+ * {@code @ConfigSerializable} な設定クラスがこのインターフェースを実装すると、
+ * 設定ファイルからのマッピングが完了した直後に {@link #computeDerivedFields()} が呼び出されます。
+ * 正規表現の {@code Pattern} 、{@code Duration} 、MiniMessageをパースした {@code Component} 、マテリアルの集合などを
+ * ここで一度だけ生成しておくことで、イベント処理などの頻繁に呼ばれる処理では完成した値を読み取るだけで済みます。
+ * <p>
+ * 派生値を格納するフィールドには {@code transient} を付与してください。
+ * {@code transient} なフィールドは設定ファイルに読み書きされません。
+ * ネストされた設定クラスの派生値は、それを含む設定クラスより先に計算されます。
+ *
+ * <pre>
+ * &#64;ConfigSerializable
+ * public final class ChatFilter implements DerivedFields {
+ *
+ *     private String pattern = "(?i)badword";
+ *     private transient @MonotonicNonNull Pattern compiledPattern;
+ *
+ *     &#64;Override
+ *     public void computeDerivedFields() {
+ *         this.compiledPattern = Pattern.compile(this.pattern);
+ *     }
+ *
+ *     public Pattern pattern() {
+ *         return this.compiledPattern;
+ *     }
+ * }
+ * </pre>
+ */
+@NullMarked
+public interface DerivedFields {
+
+    /**
+     * 設定値から派生値を計算する。
+     * <p>
+     * このメソッドは設定の読み込みまたは再読み込みのたびに、新しいインスタンスに対して1回だけ呼び出されます。
+     * 例外をスローした場合、その読み込みは失敗として扱われ、現在の設定は維持されます。
+     *
+     * @throws SerializationException 設定値が不正で派生値を計算できない場合
+     */
+    void computeDerivedFields() throws SerializationException;
+}
@@ -0,0 +1,125 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+/**
+ * マッピング済みの設定オブジェクトをたどり、{@link DerivedFields} の派生値を計算するためのユーティリティークラス。
+ */
+@NullMarked
+final class DerivedFieldsProcessor {
+
+    // 設定クラスごとに、たどる対象のフィールドをキャッシュする
+    private static final ClassValue<List<Field>> CONFIG_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(final Class<?> type) {
+            return configFields(type);
+        }
+    };
+
+    private DerivedFieldsProcessor() {
+    }
+
+    /**
+     * 指定された設定オブジェクトとその中のすべての設定オブジェクトの派生値を計算する。
+     * <p>
+     * ネストされた設定オブジェクトは、それを含む設定オブジェクトより先に処理されます。
+     *
+     * @param config 設定オブジェクト
+     * @throws SerializationException 派生値の計算に失敗した場合
+     */
+    static void process(final Object config) throws SerializationException {
+        visit(config, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static void visit(final @Nullable Object value, final Set<Object> visited) throws SerializationException {
+        if (value == null || !visited.add(value)) {
+            return;
+        }
+
+        // コレクションやマップの要素に含まれる設定オブジェクトもたどる
+        if (value instanceof Collection<?> collection) {
+            for (final Object element : collection) {
+                visit(element, visited);
+            }
+            return;
+        }
+        if (value instanceof Map<?, ?> map) {
+            for (final Object element : map.values()) {
+                visit(element, visited);
+            }
+            return;
+        }
+        if (value instanceof Object[] array) {
+            for (final Object element : array) {
+                visit(element, visited);
+            }
+            return;
+        }
+
+        final Class<?> type = value.getClass();
+        if (!type.isAnnotationPresent(ConfigSerializable.class)) {
+            return;
+        }
+
+        for (final Field field : CONFIG_FIELDS.get(type)) {
+            try {
+                visit(field.get(value), visited);
+            } catch (final IllegalAccessException exception) {
+                throw new SerializationException(field.getGenericType(), exception);
+            }
+        }
+
+        if (value instanceof DerivedFields derivedFields) {
+            derivedFields.computeDerivedFields();
+        }
+    }
+
+    private static List<Field> configFields(final Class<?> type) {
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                final int modifiers = field.getModifiers();
+
+                // 設定ファイルに対応しないフィールドと、設定オブジェクトを含み得ないフィールドは除外
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.getType().isPrimitive()) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        return List.copyOf(fields);
+    }
+}
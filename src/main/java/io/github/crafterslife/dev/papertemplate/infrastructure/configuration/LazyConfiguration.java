@@ -0,0 +1,514 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations.ConfigLazySections;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+
+/**
+ * 大きなデータ用のYAMLファイルを、トップレベルのセクション単位で必要になったときに読み込むためのクラス。
+ * <p>
+ * {@link ConfigLazySections} が付与された設定クラスは、{@link ConfigurationRegistry} がこのクラスで読み込みます。
+ * 設定クラス自体はマッピングされず、ファイル名の指定にのみ使われます。
+ * <p>
+ * {@link ConfigurationHolder} はファイル全体を設定クラスにマッピングしますが、このクラスは読み込み時に
+ * YAMLをイベント単位でストリーミング走査してトップレベルのキーのバイト位置だけを索引し、{@link #section} で初めて要求されたセクションのみを
+ * ファイルから読み直してパースし、マッピングします。ファイルの内容そのものは保持しないため、
+ * メモリ使用量と再読み込みの時間は実際に使われるセクションの量に比例します。マッピング結果はセクションと型ごとにキャッシュされます。
+ * <p>
+ * セクションを読み直す際は、索引したときのファイルの更新日時とサイズを確認します。
+ * 索引の後にファイルが変更されていた場合は、自動的に索引し直してから読み込みます (マッピング済みのセクションは破棄されます)。
+ * <p>
+ * ルートがブロックスタイルのマップでない場合や、エイリアスや重複したキーが使われている場合は
+ * セクションを切り出せないため、ファイル全体をパースしてセクションごとのノードを保持し、マッピングのみを遅延させます。
+ * <p>
+ * このクラスは読み込み専用で、デフォルト値の書き戻しは行いません。
+ */
+@NullMarked
+@SuppressWarnings("UnstableApiUsage")
+public final class LazyConfiguration {
+
+    // 索引中にファイルが書き換えられた場合に索引をやり直す回数
+    private static final int INDEX_ATTEMPTS = 3;
+
+    private final Path path;
+    private final ConfigurationOptions options;
+    private final ComponentLogger logger;
+    private final Lock indexLock;
+
+    private volatile SectionIndex index; // 書き込みはindexLockで保護
+
+    private LazyConfiguration(final Path path, final ConfigurationOptions options, final ComponentLogger logger) throws UncheckedConfigurateException {
+        this.path = path;
+        this.options = options;
+        this.logger = logger;
+        this.indexLock = new ReentrantLock();
+        this.index = this.createIndex();
+    }
+
+    /**
+     * 指定されたファイルを索引し、{@code LazyConfiguration} を生成する。
+     *
+     * @param path    設定ファイルのパス
+     * @param options セクションのパースとマッピングに使用する設定オプション
+     * @param logger  ロガー
+     * @return 生成された {@code LazyConfiguration}
+     * @throws UncheckedConfigurateException 設定ファイルの読み込みまたは索引に失敗した場合
+     */
+    static LazyConfiguration create(final Path path, final ConfigurationOptions options, final ComponentLogger logger) throws UncheckedConfigurateException {
+        return new LazyConfiguration(path, options, logger);
+    }
+
+    /**
+     * 設定ファイルのパスを取得する。
+     *
+     * @return 設定ファイルのパス
+     */
+    public Path path() {
+        return this.path;
+    }
+
+    /**
+     * トップレベルのセクションのキーを取得する。
+     *
+     * @return ファイル内の順序を保ったキーの変更不可能な集合
+     */
+    public Set<String> keys() {
+        return this.index.sections().keySet();
+    }
+
+    /**
+     * 指定されたセクションを指定された型にマッピングして取得する。
+     * <p>
+     * 初回の呼び出しでのみセクションを読み込んでマッピングし、以降は同じインスタンスを返します。
+     * 複数のスレッドから同時に初回の呼び出しが行われた場合、マッピングが重複して行われることがありますが、返されるインスタンスは1つに揃えられます。
+     * セクションが存在しない場合は空のノードからマッピングするため、デフォルト値のインスタンスが返されます。
+     *
+     * @param <T>  マッピング先の型
+     * @param key  トップレベルのキー
+     * @param type マッピング先の型
+     * @return マッピングされたセクション
+     * @throws UncheckedConfigurateException セクションの読み込み、パース、またはマッピングに失敗した場合
+     */
+    public <T> T section(final String key, final Class<T> type) throws UncheckedConfigurateException {
+        final SectionKey sectionKey = new SectionKey(key, type);
+        try {
+            for (int attempt = 1; ; attempt++) {
+                final SectionIndex currentIndex = this.index;
+                final @Nullable Object cached = currentIndex.mapped().get(sectionKey);
+                if (cached != null) {
+                    return type.cast(cached);
+                }
+
+                // パースとマッピングは重いため、ほかのセクションの参照を妨げないようマップのロックの外で行う
+                final @Nullable ConfigurationNode node = this.parseSection(currentIndex, key);
+                if (node != null) {
+                    final T value = this.map(node, key, type);
+                    final @Nullable Object raced = currentIndex.mapped().putIfAbsent(sectionKey, value);
+                    return type.cast(raced != null ? raced : value);
+                }
+
+                // 索引後にファイルが変更されていたため、索引し直して読み込む
+                if (attempt >= INDEX_ATTEMPTS) {
+                    throw new ConfigurateException("File was modified repeatedly while reading section " + key + " in " + this.path);
+                }
+                this.refreshIndex(currentIndex);
+            }
+        } catch (final ConfigurateException exception) {
+            throw new UncheckedConfigurateException(exception);
+        }
+    }
+
+    /**
+     * 指定されたセクションがすでにマッピングされているかどうかを判定する。
+     *
+     * @param key トップレベルのキー
+     * @return いずれかの型でマッピング済みの場合は {@code true}
+     */
+    public boolean isMaterialized(final String key) {
+        return this.index.mapped().keySet().stream().anyMatch(sectionKey -> sectionKey.key().equals(key));
+    }
+
+    /**
+     * 設定ファイルを索引し直す。
+     * <p>
+     * マッピング済みのセクションはすべて破棄され、次のアクセスで新しい内容から再びマッピングされます。
+     * 索引に失敗した場合は現在の索引がそのまま維持されます。
+     *
+     * @throws UncheckedConfigurateException 設定ファイルの読み込みまたは索引に失敗した場合
+     */
+    public void reload() throws UncheckedConfigurateException {
+        this.indexLock.lock();
+        try {
+            this.index = this.createIndex();
+        } finally {
+            this.indexLock.unlock();
+        }
+    }
+
+    private void refreshIndex(final SectionIndex staleIndex) throws UncheckedConfigurateException {
+        this.indexLock.lock();
+        try {
+            // 別のスレッドがすでに索引し直していれば何もしない
+            if (this.index == staleIndex) {
+                this.logger.info("{} が変更されたため、索引し直します。", this.path.getFileName());
+                this.index = this.createIndex();
+            }
+        } finally {
+            this.indexLock.unlock();
+        }
+    }
+
+    private <T> T map(final ConfigurationNode node, final String key, final Class<T> type) throws ConfigurateException {
+        final @Nullable T value = node.get(type);
+        if (value == null) {
+            throw new ConfigurateException("Failed to deserialize section " + key + " as " + type.getSimpleName());
+        }
+        DerivedFieldsProcessor.process(value);
+        return value;
+    }
+
+    /**
+     * セクションのノードを取得する。
+     *
+     * @return セクションのノード、索引の後にファイルが変更されていた場合は {@code null}
+     */
+    private @Nullable ConfigurationNode parseSection(final SectionIndex currentIndex, final String key) throws ConfigurateException {
+        final @Nullable Section section = currentIndex.sections().get(key);
+        if (section == null) {
+            return BasicConfigurationNode.root(this.options);
+        }
+        final @Nullable ConfigurationNode parsedNode = section.node();
+        if (parsedNode != null) {
+            return parsedNode;
+        }
+
+        final @Nullable String text = this.readRange(currentIndex.stamp(), section.start(), section.end());
+        if (text == null) {
+            return null;
+        }
+
+        // 切り出したテキストは「キー: 値」だけのマップになるため、唯一の子がセクションの値
+        final ConfigurationNode root = this.createYamlLoader(text).load();
+        final Map<Object, ? extends ConfigurationNode> children = root.childrenMap();
+        if (children.size() != 1) {
+            throw new ConfigurateException("Failed to isolate section " + key + " in " + this.path);
+        }
+        return children.values().iterator().next();
+    }
+
+    /**
+     * ファイルの指定されたバイト範囲をUTF-8の文字列として読み込む。
+     *
+     * @return 読み込んだ文字列、ファイルが索引したときから変更されている場合は {@code null}
+     */
+    private @Nullable String readRange(final @Nullable FileStamp stamp, final long start, final long end) throws ConfigurateException {
+        try {
+            if (!Objects.equals(stamp, this.stamp())) {
+                return null;
+            }
+
+            final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+            try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, start + buffer.position()) < 0) {
+                        return null; // ファイルが短くなっている
+                    }
+                }
+            }
+
+            // 読み込みの途中で書き換えられていないことを確認
+            if (!Objects.equals(stamp, this.stamp())) {
+                return null;
+            }
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        } catch (final NoSuchFileException exception) {
+            return null;
+        } catch (final IOException exception) {
+            throw new ConfigurateException("Failed to read " + this.path, exception);
+        }
+    }
+
+    private SectionIndex createIndex() throws UncheckedConfigurateException {
+        final long startTime = System.nanoTime();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                final @Nullable SectionIndex sectionIndex = this.tryCreateIndex();
+                if (sectionIndex != null) {
+                    final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000L;
+                    this.logger.info("{} のセクションを索引しました ({} 個, {} ms)", this.path.getFileName(), sectionIndex.sections().size(), elapsedMillis);
+                    return sectionIndex;
+                }
+                if (attempt >= INDEX_ATTEMPTS) {
+                    throw new ConfigurateException("File was modified repeatedly while indexing " + this.path);
+                }
+            }
+        } catch (final ConfigurateException exception) {
+            throw new UncheckedConfigurateException(exception);
+        }
+    }
+
+    /**
+     * ファイルを索引する。
+     *
+     * @return 索引、索引の途中でファイルが変更された場合は {@code null}
+     */
+    private @Nullable SectionIndex tryCreateIndex() throws ConfigurateException {
+        final @Nullable FileStamp stamp = this.stamp();
+        if (stamp == null) {
+            return new SectionIndex(null, Map.of(), new ConcurrentHashMap<>()); // ファイルがない
+        }
+
+        final Map<String, Section> sections = new LinkedHashMap<>();
+        try {
+            final @Nullable SectionLines sectionLines;
+            try (Reader reader = Files.newBufferedReader(this.path, StandardCharsets.UTF_8)) {
+                sectionLines = indexSectionLines(reader);
+            }
+
+            if (sectionLines != null) {
+                final List<KeyLine> keyLines = sectionLines.keyLines();
+                final int[] lines = new int[keyLines.size() + 1];
+                for (int i = 0; i < keyLines.size(); i++) {
+                    lines[i] = keyLines.get(i).line();
+                }
+                lines[keyLines.size()] = sectionLines.endLine();
+
+                // 各セクションは次のキーの行の直前まで、最後のセクションは最初のドキュメントの終わりまで
+                final long[] offsets = this.lineOffsets(lines, stamp.size());
+                for (int i = 0; i < keyLines.size(); i++) {
+                    sections.put(keyLines.get(i).key(), new Section(offsets[i], offsets[i + 1], null));
+                }
+            } else {
+                // セクションを切り出せないため、全体をパースしてノードだけを保持する
+                final ConfigurationNode root = YamlConfigurationLoader.builder()
+                        .defaultOptions(this.options)
+                        .path(this.path)
+                        .build()
+                        .load();
+                root.childrenMap().forEach((key, child) -> sections.put(String.valueOf(key), new Section(0L, 0L, child)));
+            }
+        } catch (final NoSuchFileException exception) {
+            return null; // 索引の途中で置き換えられた
+        } catch (final IOException exception) {
+            throw new ConfigurateException("Failed to read " + this.path, exception);
+        }
+
+        if (!stamp.equals(this.stamp())) {
+            return null;
+        }
+        return new SectionIndex(stamp, Collections.unmodifiableMap(sections), new ConcurrentHashMap<>());
+    }
+
+    private @Nullable FileStamp stamp() throws ConfigurateException {
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(this.path, BasicFileAttributes.class);
+            return new FileStamp(attributes.lastModifiedTime(), attributes.size());
+        } catch (final NoSuchFileException exception) {
+            return null;
+        } catch (final IOException exception) {
+            throw new ConfigurateException("Failed to read attributes of " + this.path, exception);
+        }
+    }
+
+    private YamlConfigurationLoader createYamlLoader(final String source) {
+        return YamlConfigurationLoader.builder()
+                .defaultOptions(this.options)
+                .source(() -> new BufferedReader(new StringReader(source)))
+                .build();
+    }
+
+    /**
+     * ファイルを先頭から読み、指定された行の開始バイト位置を求める。
+     *
+     * @param lines    昇順に並んだ行番号
+     * @param fileSize ファイルの末尾を越える行に使用するバイト位置
+     * @return 行ごとの開始バイト位置
+     */
+    private long[] lineOffsets(final int[] lines, final long fileSize) throws IOException {
+        final long[] offsets = new long[lines.length];
+        Arrays.fill(offsets, fileSize);
+        int next = 0;
+        while (next < offsets.length && lines[next] == 0) {
+            offsets[next++] = 0L;
+        }
+
+        // UTF-8では改行のバイトがほかの文字の一部になることはないため、バイト単位で数えられる
+        try (InputStream input = Files.newInputStream(this.path)) {
+            final byte[] buffer = new byte[8192];
+            long position = 0L;
+            int line = 0;
+            int read;
+            while (next < offsets.length && (read = input.read(buffer)) != -1) {
+                for (int i = 0; i < read && next < offsets.length; i++) {
+                    if (buffer[i] == '\n') {
+                        line++;
+                        while (next < offsets.length && lines[next] == line) {
+                            offsets[next++] = position + i + 1;
+                        }
+                    }
+                }
+                position += read;
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * YAMLをイベント単位で走査し、トップレベルのキーとその行番号、および最初のドキュメントの終わりの行番号を求める。
+     * <p>
+     * トップレベルのキーは必ず行頭から始まるため、各セクションはキーの行から次のキーの行の直前までとなります。
+     * 最後のセクションは、続くドキュメントを含めないようドキュメントの終わり ({@code ...} や次の {@code ---}) の行の直前までとなります。
+     * セクションを安全に切り出せない場合は {@code null} を返します。
+     *
+     * @param reader YAMLのテキスト
+     * @return ファイル内の順序に並んだキーの行とドキュメントの終わりの行、または {@code null}
+     * @throws ConfigurateException YAMLの構文が不正な場合
+     */
+    private static @Nullable SectionLines indexSectionLines(final Reader reader) throws ConfigurateException {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE); // 大きなファイルを想定しているため上限を外す
+
+        final List<KeyLine> keyLines = new ArrayList<>();
+        final Set<String> keys = new HashSet<>();
+        int endLine = Integer.MAX_VALUE; // ドキュメントがなければファイルの末尾まで
+        try {
+            int depth = 0;
+            boolean expectingKey = true;
+            for (final Event event : new Yaml(loaderOptions).parse(reader)) {
+                if (event instanceof DocumentEndEvent) {
+                    // 暗黙の終わりは次のトークン (次の「---」やストリームの終わり) の位置を指す。
+                    // 行の途中を指す場合はファイルの末尾に改行がないため、その行までをセクションに含める
+                    final Mark mark = event.getStartMark();
+                    endLine = mark.getColumn() == 0 ? mark.getLine() : mark.getLine() + 1;
+                    break; // 最初のドキュメントのみを読み込む
+                }
+                if (event instanceof AliasEvent) {
+                    return null; // 別のセクションのアンカーを参照している可能性がある
+                }
+
+                if (event instanceof CollectionStartEvent) {
+                    if (depth == 0 && !(event instanceof MappingStartEvent)) {
+                        return null; // ルートがマップではない
+                    }
+                    if (depth == 1 && expectingKey) {
+                        return null; // 複合キー
+                    }
+                    depth++;
+                    continue;
+                }
+
+                final boolean completesNode;
+                if (event instanceof CollectionEndEvent) {
+                    depth--;
+                    completesNode = depth == 1;
+                } else if (event instanceof ScalarEvent scalar) {
+                    if (depth == 0) {
+                        return null; // ルートがスカラー値
+                    }
+                    if (depth == 1 && expectingKey) {
+                        if (scalar.getStartMark().getColumn() != 0) {
+                            return null; // フロースタイルのルート
+                        }
+                        if (!keys.add(scalar.getValue())) {
+                            return null; // 重複したキー
+                        }
+                        keyLines.add(new KeyLine(scalar.getValue(), scalar.getStartMark().getLine()));
+                    }
+                    completesNode = depth == 1;
+                } else {
+                    continue;
+                }
+
+                if (completesNode) {
+                    expectingKey = !expectingKey;
+                }
+            }
+        } catch (final YAMLException exception) {
+            throw new ConfigurateException("Failed to index sections", exception);
+        }
+        return new SectionLines(keyLines, endLine);
+    }
+
+    // 索引に使用したファイルの状態
+    private record FileStamp(FileTime modified, long size) {
+    }
+
+    private record SectionIndex(@Nullable FileStamp stamp, Map<String, Section> sections, ConcurrentMap<SectionKey, Object> mapped) {
+    }
+
+    // 切り出すバイト範囲、または全体をパースした場合のノード
+    private record Section(long start, long end, @Nullable ConfigurationNode node) {
+    }
+
+    private record KeyLine(String key, int line) {
+    }
+
+    private record SectionLines(List<KeyLine> keyLines, int endLine) {
+    }
+
+    private record SectionKey(String key, Class<?> type) {
+    }
+}
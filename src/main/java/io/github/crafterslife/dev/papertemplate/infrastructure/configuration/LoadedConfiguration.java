@@ -0,0 +1,35 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration;
+
+import org.jspecify.annotations.NullMarked;
+import org.spongepowered.configurate.ConfigurationNode;
+
+/**
+ * {@link ConfigurationLoader} による1回の読み込み結果。
+ *
+ * @param <C>     設定クラスの型
+ * @param config  マッピングされた設定インスタンス
+ * @param node    設定インスタンスに対応する設定ノード
+ * @param metrics 読み込みの計測結果 (差し替えの時間は含まない)
+ */
+@NullMarked
+record LoadedConfiguration<C>(C config, ConfigurationNode node, ConfigurationLoadMetrics metrics) {
+}
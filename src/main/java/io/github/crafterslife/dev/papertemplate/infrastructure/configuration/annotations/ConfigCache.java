@@ -0,0 +1,36 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * 設定ファイルのバイナリキャッシュを有効にするアノテーション。
+ * <p>
+ * このアノテーションが付与された設定クラスは、パース済みの設定ノードを設定ファイルと同じディレクトリにバイナリ形式で保存します。
+ * 次回以降の読み込みでは、設定ファイルのサイズ、更新日時、内容のハッシュが一致する場合にYAMLのパースを省略します。
+ * 大量のリスト要素を含むような、パースに時間がかかる設定ファイルに向いています。
+ */
+@NullMarked
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConfigCache {
+}
@@ -0,0 +1,36 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * 設定ファイルをトップレベルのセクション単位で遅延して読み込むアノテーション。
+ * <p>
+ * このアノテーションが付与された設定クラスは、ファイル全体をマッピングする代わりに読み込み時にトップレベルのキーだけを索引し、
+ * 各セクションを初めて要求されたときにパースしてマッピングします。ほとんどのセクションが一部の機能でしか使われない、
+ * 大きなデータ用の設定ファイルに向いています。設定クラス自体はマッピングされず、デフォルト値の書き戻しも行われません。
+ */
+@NullMarked
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConfigLazySections {
+}
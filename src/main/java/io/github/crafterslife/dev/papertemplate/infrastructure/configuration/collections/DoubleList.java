@@ -0,0 +1,129 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
+
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@code double} 値の不変リスト。
+ * <p>
+ * 値は {@code double[]} にそのまま格納されるため、{@code List<Double>} と比べてボクシングが発生せず、メモリ使用量も小さくなります。
+ */
+@NullMarked
+public final class DoubleList {
+
+    private static final DoubleList EMPTY = new DoubleList(new double[0]);
+
+    private final double[] values;
+
+    private DoubleList(final double[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 指定された値を順番に持つリストを生成する。
+     *
+     * @param values 値
+     * @return 生成されたリスト
+     */
+    public static DoubleList of(final double... values) {
+        return values.length == 0 ? EMPTY : new DoubleList(values.clone());
+    }
+
+    /**
+     * 要素数を取得する。
+     *
+     * @return 要素数
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * リストが空かどうかを判定する。
+     *
+     * @return 空の場合は {@code true}
+     */
+    public boolean isEmpty() {
+        return this.values.length == 0;
+    }
+
+    /**
+     * 指定された位置の値を取得する。
+     *
+     * @param index 位置
+     * @return 値
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public double get(final int index) throws IndexOutOfBoundsException {
+        return this.values[index];
+    }
+
+    /**
+     * 指定された値を含むかどうかを線形探索で判定する。
+     *
+     * @param value 値
+     * @return 含む場合は {@code true}
+     */
+    public boolean contains(final double value) {
+        for (final double element : this.values) {
+            if (Double.compare(element, value) == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 値のストリームを取得する。
+     *
+     * @return 値のストリーム
+     */
+    public DoubleStream stream() {
+        return Arrays.stream(this.values);
+    }
+
+    /**
+     * 値を配列として取得する。
+     *
+     * @return 値の配列のコピー
+     */
+    public double[] toArray() {
+        return this.values.clone();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return obj instanceof final DoubleList other && Arrays.equals(this.values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.values);
+    }
+}
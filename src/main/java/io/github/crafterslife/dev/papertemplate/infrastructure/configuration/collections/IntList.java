@@ -0,0 +1,131 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@code int} 値の不変リスト。
+ * <p>
+ * 値は {@code int[]} にそのまま格納されるため、{@code List<Integer>} と比べてボクシングが発生せず、メモリ使用量も小さくなります。
+ */
+@NullMarked
+public final class IntList {
+
+    private static final IntList EMPTY = new IntList(new int[0]);
+
+    private final int[] values;
+
+    private IntList(final int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 指定された値を順番に持つリストを生成する。
+     *
+     * @param values 値
+     * @return 生成されたリスト
+     */
+    public static IntList of(final int... values) {
+        return values.length == 0 ? EMPTY : new IntList(values.clone());
+    }
+
+    /**
+     * 要素数を取得する。
+     *
+     * @return 要素数
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * リストが空かどうかを判定する。
+     *
+     * @return 空の場合は {@code true}
+     */
+    public boolean isEmpty() {
+        return this.values.length == 0;
+    }
+
+    /**
+     * 指定された位置の値を取得する。
+     *
+     * @param index 位置
+     * @return 値
+     * @throws IndexOutOfBoundsException 位置が範囲外の場合
+     */
+    public int get(final int index) throws IndexOutOfBoundsException {
+        return this.values[index];
+    }
+
+    /**
+     * 指定された値を含むかどうかを線形探索で判定する。
+     * <p>
+     * 所属判定を頻繁に行う場合は {@link IntSet} を使用してください。
+     *
+     * @param value 値
+     * @return 含む場合は {@code true}
+     */
+    public boolean contains(final int value) {
+        for (final int element : this.values) {
+            if (element == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 値のストリームを取得する。
+     *
+     * @return 値のストリーム
+     */
+    public IntStream stream() {
+        return Arrays.stream(this.values);
+    }
+
+    /**
+     * 値を配列として取得する。
+     *
+     * @return 値の配列のコピー
+     */
+    public int[] toArray() {
+        return this.values.clone();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return obj instanceof final IntList other && Arrays.equals(this.values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.values);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@code int} 値の不変集合。
+ * <p>
+ * 値は重複を取り除いて昇順に並べた {@code int[]} に格納され、所属判定は二分探索で行われます。
+ * {@code Set<Integer>} と比べてボクシングやハッシュ計算が発生せず、メモリ使用量も小さくなります。
+ */
+@NullMarked
+public final class IntSet {
+
+    private static final IntSet EMPTY = new IntSet(new int[0]);
+
+    private final int[] values;
+
+    private IntSet(final int[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 指定された値を持つ集合を生成する。
+     * <p>
+     * 重複した値は1つにまとめられます。
+     *
+     * @param values 値
+     * @return 生成された集合
+     */
+    public static IntSet of(final int... values) {
+        if (values.length == 0) {
+            return EMPTY;
+        }
+
+        // 昇順に並べて重複を取り除く
+        final int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return new IntSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    /**
+     * 要素数を取得する。
+     *
+     * @return 要素数
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * 集合が空かどうかを判定する。
+     *
+     * @return 空の場合は {@code true}
+     */
+    public boolean isEmpty() {
+        return this.values.length == 0;
+    }
+
+    /**
+     * 指定された値を含むかどうかを判定する。
+     *
+     * @param value 値
+     * @return 含む場合は {@code true}
+     */
+    public boolean contains(final int value) {
+        return Arrays.binarySearch(this.values, value) >= 0;
+    }
+
+    /**
+     * 値を昇順のストリームとして取得する。
+     *
+     * @return 値のストリーム
+     */
+    public IntStream stream() {
+        return Arrays.stream(this.values);
+    }
+
+    /**
+     * 値を昇順の配列として取得する。
+     *
+     * @return 値の配列のコピー
+     */
+    public int[] toArray() {
+        return this.values.clone();
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object obj) {
+        return obj instanceof final IntSet other && Arrays.equals(this.values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.values);
+    }
+}
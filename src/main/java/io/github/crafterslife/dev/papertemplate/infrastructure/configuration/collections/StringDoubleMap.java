@@ -0,0 +1,117 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjDoubleConsumer;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * 文字列キーと {@code double} 値の不変マップ。
+ * <p>
+ * 値は {@code double[]} にそのまま格納され、キーはオープンアドレス法のハッシュインデックスで引かれます。
+ * {@code Map<String, Double>} と比べてボクシングやエントリーオブジェクトが発生せず、メモリ使用量も小さくなります。
+ */
+@NullMarked
+public final class StringDoubleMap extends StringKeyedMap {
+
+    private static final StringDoubleMap EMPTY = new StringDoubleMap(new StringIndex(new String[0]), new double[0]);
+
+    private final double[] values;
+
+    private StringDoubleMap(final StringIndex index, final double[] values) {
+        super(index);
+        this.values = values;
+    }
+
+    /**
+     * 指定されたマップと同じエントリーを持つマップを生成する。
+     * <p>
+     * エントリーの順番は指定されたマップの反復順を維持します。
+     *
+     * @param map コピー元のマップ
+     * @return 生成されたマップ
+     */
+    public static StringDoubleMap copyOf(final Map<String, Double> map) {
+        if (map.isEmpty()) {
+            return EMPTY;
+        }
+
+        final String[] keys = new String[map.size()];
+        final double[] values = new double[map.size()];
+        int i = 0;
+        for (final Map.Entry<String, Double> entry : map.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        return new StringDoubleMap(new StringIndex(keys), values);
+    }
+
+    /**
+     * 指定されたキーの値を取得する。
+     *
+     * @param key          キー
+     * @param defaultValue キーが存在しない場合の値
+     * @return キーの値、存在しない場合は {@code defaultValue}
+     */
+    public double getOrDefault(final String key, final double defaultValue) {
+        final int position = this.index.indexOf(key);
+        return position < 0 ? defaultValue : this.values[position];
+    }
+
+    /**
+     * すべてのエントリーに対して、挿入順で指定された処理を実行する。
+     *
+     * @param action 実行する処理
+     */
+    public void forEach(final ObjDoubleConsumer<String> action) {
+        for (int i = 0; i < this.values.length; i++) {
+            action.accept(this.index.key(i), this.values[i]);
+        }
+    }
+
+    /**
+     * 同じエントリーを持つ {@link Map} に変換する。
+     *
+     * @return 挿入順を維持した変更可能なマップ
+     */
+    public Map<String, Double> toMap() {
+        final Map<String, Double> map = new LinkedHashMap<>();
+        this.forEach(map::put);
+        return map;
+    }
+
+    @Override
+    int valueHash(final int position) {
+        return Double.hashCode(this.values[position]);
+    }
+
+    @Override
+    boolean valueEquals(final int position, final StringKeyedMap other, final int otherPosition) {
+        return Double.doubleToLongBits(this.values[position]) == Double.doubleToLongBits(((StringDoubleMap) other).values[otherPosition]);
+    }
+
+    @Override
+    public String toString() {
+        return this.toMap().toString();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * 文字列キーから配列上の位置を引くための、オープンアドレス法による不変のハッシュインデックス。
+ * <p>
+ * キーは挿入順の配列で保持され、値は各マップが同じ位置の配列に格納します。
+ */
+@NullMarked
+final class StringIndex {
+
+    private final String[] keys;
+    private final int[] slots; // スロット -> キーの位置 + 1 (0は空きスロット)
+    private final int mask;
+
+    /**
+     * 指定されたキーのインデックスを生成する。
+     *
+     * @param keys 重複のないキーの配列 (呼び出し元から渡された配列をそのまま保持する)
+     */
+    StringIndex(final String[] keys) {
+        // 負荷率が0.5以下になるように2の累乗の容量を確保
+        int capacity = 2;
+        while (capacity < keys.length * 2) {
+            capacity <<= 1;
+        }
+
+        this.keys = keys;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < keys.length; i++) {
+            int slot = spread(keys[i].hashCode()) & this.mask;
+            while (this.slots[slot] != 0) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * 指定されたキーの位置を取得する。
+     *
+     * @param key キー
+     * @return キーの位置、存在しない場合は {@code -1}
+     */
+    int indexOf(final String key) {
+        int slot = spread(key.hashCode()) & this.mask;
+        while (true) {
+            final int entry = this.slots[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (this.keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     * キーの数を取得する。
+     *
+     * @return キーの数
+     */
+    int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * 指定された位置のキーを取得する。
+     *
+     * @param index 位置
+     * @return キー
+     */
+    String key(final int index) {
+        return this.keys[index];
+    }
+
+    /**
+     * すべてのキーを挿入順で取得する。
+     *
+     * @return キーの変更不可能なリスト
+     */
+    List<String> keys() {
+        return Collections.unmodifiableList(Arrays.asList(this.keys));
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
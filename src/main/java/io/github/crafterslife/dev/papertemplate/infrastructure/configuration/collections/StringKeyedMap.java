@@ -0,0 +1,127 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
+
+import java.util.List;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 文字列キーとプリミティブ値の不変マップに共通する処理。
+ * <p>
+ * キーは {@link StringIndex} で引き、値は各サブクラスが同じ位置のプリミティブ配列に格納します。
+ * 等価性とハッシュ値は {@link java.util.Map} と同じ規約 (順序によらず、エントリーごとの {@code キーのハッシュ ^ 値のハッシュ} の和) に従い、
+ * 配列を直接比較するためボクシングは発生しません。
+ */
+@NullMarked
+abstract class StringKeyedMap {
+
+    final StringIndex index;
+
+    StringKeyedMap(final StringIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * エントリー数を取得する。
+     *
+     * @return エントリー数
+     */
+    public int size() {
+        return this.index.size();
+    }
+
+    /**
+     * マップが空かどうかを判定する。
+     *
+     * @return 空の場合は {@code true}
+     */
+    public boolean isEmpty() {
+        return this.index.size() == 0;
+    }
+
+    /**
+     * 指定されたキーを含むかどうかを判定する。
+     *
+     * @param key キー
+     * @return 含む場合は {@code true}
+     */
+    public boolean containsKey(final String key) {
+        return this.index.indexOf(key) >= 0;
+    }
+
+    /**
+     * すべてのキーを挿入順で取得する。
+     *
+     * @return キーの変更不可能なリスト
+     */
+    public List<String> keys() {
+        return this.index.keys();
+    }
+
+    /**
+     * 指定された位置の値のハッシュ値を、ボクシングした値と同じ規約で計算する。
+     *
+     * @param position 位置
+     * @return 値のハッシュ値
+     */
+    abstract int valueHash(int position);
+
+    /**
+     * このマップの指定された位置の値と、同じ型の別のマップの指定された位置の値が等しいかどうかを判定する。
+     *
+     * @param position      このマップの位置
+     * @param other         比較するマップ
+     * @param otherPosition 比較するマップの位置
+     * @return 等しい場合は {@code true}
+     */
+    abstract boolean valueEquals(int position, StringKeyedMap other, int otherPosition);
+
+    @Override
+    public final boolean equals(final @Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || obj.getClass() != this.getClass()) {
+            return false;
+        }
+
+        final StringKeyedMap other = (StringKeyedMap) obj;
+        if (other.size() != this.size()) {
+            return false;
+        }
+        for (int i = 0; i < this.size(); i++) {
+            final int otherPosition = other.index.indexOf(this.index.key(i));
+            if (otherPosition < 0 || !this.valueEquals(i, other, otherPosition)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public final int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < this.size(); i++) {
+            hash += this.index.key(i).hashCode() ^ this.valueHash(i);
+        }
+        return hash;
+    }
+}
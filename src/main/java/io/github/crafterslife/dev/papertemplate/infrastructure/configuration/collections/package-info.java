@@ -0,0 +1,4 @@
+/**
+ * 設定値のための、プリミティブ型に特化した不変コレクション。
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections;
@@ -0,0 +1,138 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers;
+
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.RandomAccess;
+import org.bukkit.Material;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+/**
+ * {@code List<Material>} のための {@code Configurate} のカスタム {@link TypeSerializer} 。
+ * <p>
+ * 設定ファイル上の順序と重複はそのまま保持されますが、返されるリストは要素の {@link EnumSet} を併せて持つため、
+ * {@link List#contains(Object)} による所属判定は線形探索ではなくビット演算で完了します。
+ * 返されるリストは変更できません。{@code ArrayList<Material>} などのサブタイプには対応しないため、
+ * {@link #supports(Type)} に一致する型にのみ登録してください。
+ * 名前の解決には {@link MaterialSerializer#match(String)} を使用します。
+ */
+@NullMarked
+public final class MaterialListSerializer implements TypeSerializer<List<Material>> {
+
+    /**
+     * このシリアライザーのインスタンスを生成する。
+     */
+    public MaterialListSerializer() {
+    }
+
+    /**
+     * 指定された型をこのシリアライザーで扱えるかどうかを判定する。
+     *
+     * @param type 判定する型
+     * @return 型が {@code List<Material>} ちょうどの場合は {@code true}
+     */
+    public static boolean supports(final Type type) {
+        return MaterialSerializer.isMaterialCollection(type, List.class);
+    }
+
+    /**
+     * 設定ノードのリストから、{@link EnumSet} で所属判定を行う変更不可能なリストを生成する。
+     *
+     * @param type デシリアライズ対象の型情報
+     * @param node 設定ファイル上のノード
+     * @return デシリアライズされたマテリアルのリスト
+     * @throws SerializationException ノードがリストでない、または対応するマテリアルが見つからない場合
+     */
+    @Override
+    public List<Material> deserialize(final Type type, final ConfigurationNode node) throws SerializationException {
+        return new MaterialList(MaterialSerializer.matchAll(type, node));
+    }
+
+    /**
+     * マテリアルのリストをキーのリストとして設定ノードにシリアライズする。
+     *
+     * @param type シリアライズ対象の型
+     * @param obj  シリアライズ対象のマテリアルのリスト
+     * @param node 設定ファイル上のノード
+     * @throws SerializationException シリアライズ中にエラーが発生した場合
+     */
+    @Override
+    public void serialize(final Type type, @Nullable final List<Material> obj, final ConfigurationNode node) throws SerializationException {
+        if (obj == null) {
+            node.set(null);
+            return;
+        }
+        MaterialSerializer.serializeAll(obj, node);
+    }
+
+    /**
+     * 要素の配列と、所属判定のための {@link EnumSet} を持つ変更不可能なリスト。
+     */
+    private static final class MaterialList extends AbstractList<Material> implements RandomAccess {
+
+        private final Material[] elements;
+        private final EnumSet<Material> members;
+
+        MaterialList(final Material[] elements) {
+            this.elements = elements;
+            this.members = EnumSet.noneOf(Material.class);
+            Collections.addAll(this.members, elements);
+        }
+
+        @Override
+        public Material get(final int index) {
+            return this.elements[index];
+        }
+
+        @Override
+        public int size() {
+            return this.elements.length;
+        }
+
+        @Override
+        public boolean contains(final @Nullable Object o) {
+            return this.members.contains(o);
+        }
+
+        @Override
+        public int indexOf(final @Nullable Object o) {
+            if (!this.members.contains(o)) {
+                return -1;
+            }
+            return super.indexOf(o);
+        }
+
+        @Override
+        public int lastIndexOf(final @Nullable Object o) {
+            if (!this.members.contains(o)) {
+                return -1;
+            }
+            return super.lastIndexOf(o);
+        }
+    }
+}
@@ -19,11 +19,16 @@
  */
 package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import net.kyori.adventure.key.Key;
 import org.bukkit.Material;
-import org.bukkit.Registry;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.spongepowered.configurate.ConfigurationNode;
@@ -35,10 +40,17 @@ import org.spongepowered.configurate.serialize.TypeSerializer;
  * <p>
  * 設定ファイルにおいて、Minecraftのキー形式（例: {@code minecraft:stone}）の文字列を使用して、
  * {@link Material} オブジェクトをシリアライズおよびデシリアライズします。
+ * <p>
+ * 名前の解決には起動時に一度だけ構築される正規化済みの参照テーブルを使用します。
+ * 名前空間付きのキー（{@code minecraft:stone}）、名前空間なしのキー（{@code stone}）、
+ * Bukkitの列挙名（{@code STONE}）のいずれも受け付けます。
  */
 @NullMarked
 public final class MaterialSerializer implements TypeSerializer<Material> {
 
+    private static final String MINECRAFT_NAMESPACE = Key.MINECRAFT_NAMESPACE + ":";
+    private static final Map<String, Material> MATERIALS_BY_NAME = createLookupTable();
+
     /**
      * このシリアライザーのインスタンスを生成する。
      */
@@ -46,8 +58,76 @@ public final class MaterialSerializer implements TypeSerializer<Material> {
     }
 
     /**
-     * 設定ノードから {@link Key} を取得し、それを使用して {@link Registry#MATERIAL} から対応する
-     * {@link Material} オブジェクトを取得する。
+     * 指定された名前に対応する {@link Material} を参照テーブルから取得する。
+     * <p>
+     * 名前は前後の空白を取り除き、小文字に変換し、空白とハイフンをアンダースコアに置き換えてから照合されます。
+     * レガシーマテリアルは対象外です。
+     *
+     * @param name マテリアルの名前またはキー
+     * @return 対応する {@link Material} 、見つからない場合は {@code null}
+     */
+    public static @Nullable Material match(final String name) {
+        return MATERIALS_BY_NAME.get(normalize(name));
+    }
+
+    /**
+     * 設定ノードのリストの各要素を参照テーブルから解決する。
+     *
+     * @param type デシリアライズ対象の型情報
+     * @param node 設定ファイル上のノード
+     * @return 解決されたマテリアル (リストの順序どおり)
+     * @throws SerializationException ノードがリストでない、または対応するマテリアルが見つからない場合
+     */
+    static Material[] matchAll(final Type type, final ConfigurationNode node) throws SerializationException {
+        if (!node.empty() && !node.isList()) {
+            throw new SerializationException(node, type, "Expected a list of materials");
+        }
+
+        final List<? extends ConfigurationNode> children = node.childrenList();
+        final Material[] materials = new Material[children.size()];
+        for (int i = 0; i < materials.length; i++) {
+            final ConfigurationNode child = children.get(i);
+            final String name = child.getString();
+            final Material material = name == null ? null : match(name);
+            if (material == null) {
+                throw new SerializationException(child, Material.class, "Unknown material: %s".formatted(name));
+            }
+            materials[i] = material;
+        }
+        return materials;
+    }
+
+    /**
+     * マテリアルのコレクションをキーのリストとして設定ノードに書き込む。
+     *
+     * @param materials 書き込むマテリアル
+     * @param node      設定ファイル上のノード
+     * @throws SerializationException シリアライズ中にエラーが発生した場合
+     */
+    static void serializeAll(final Collection<Material> materials, final ConfigurationNode node) throws SerializationException {
+        final List<String> keys = new ArrayList<>(materials.size());
+        for (final Material material : materials) {
+            keys.add(material.key().asString());
+        }
+        node.setList(String.class, keys);
+    }
+
+    /**
+     * 指定された型が 型引数が {@link Material} のコレクション型そのもの (サブタイプを除く) であるかどうかを判定する。
+     *
+     * @param type           判定する型
+     * @param collectionType コレクションの型
+     * @return 型引数が {@link Material} の {@code collectionType} である場合は {@code true}
+     */
+    static boolean isMaterialCollection(final Type type, final Class<?> collectionType) {
+        return type instanceof final ParameterizedType parameterized
+                && parameterized.getRawType() == collectionType
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] == Material.class;
+    }
+
+    /**
+     * 設定ノードから文字列を取得し、参照テーブルから対応する {@link Material} オブジェクトを取得する。
      *
      * @param type デシリアライズ対象の型情報
      * @param node 設定ファイル上のノード
@@ -62,7 +142,12 @@ public final class MaterialSerializer implements TypeSerializer<Material> {
             throw new SerializationException(Material.class, "Failed to deserialize from %s".formatted(node.toString()));
         }
 
-        return Objects.requireNonNull(Material.matchMaterial(nodeKey));
+        final Material material = match(nodeKey);
+        if (material == null) {
+            throw new SerializationException(Material.class, "Unknown material: %s".formatted(nodeKey));
+        }
+
+        return material;
     }
 
     /**
@@ -81,4 +166,29 @@ public final class MaterialSerializer implements TypeSerializer<Material> {
             node.set(obj.key().asString());
         }
     }
+
+    private static Map<String, Material> createLookupTable() {
+        final Map<String, Material> table = new HashMap<>();
+        for (final Material material : Material.values()) {
+            if (material.isLegacy()) {
+                continue; // レガシーマテリアルはキーを持たない
+            }
+
+            // 列挙名とキーの両方を正規化して登録
+            table.put(normalize(material.name()), material);
+            table.putIfAbsent(normalize(material.key().asString()), material);
+        }
+        return Map.copyOf(table);
+    }
+
+    private static String normalize(final String name) {
+        final String normalized = name.trim()
+                .toLowerCase(Locale.ROOT)
+                .replace(' ', '_')
+                .replace('-', '_');
+
+        return normalized.startsWith(MINECRAFT_NAMESPACE)
+                ? normalized.substring(MINECRAFT_NAMESPACE.length())
+                : normalized;
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import org.bukkit.Material;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+/**
+ * {@code Set<Material>} と {@code EnumSet<Material>} のための {@code Configurate} のカスタム {@link TypeSerializer} 。
+ * <p>
+ * マテリアルのキーのリストを {@link EnumSet} に変換するため、{@link Set#contains(Object)} などの所属判定はビット演算で完了します。
+ * フィールドの型が {@code Set<Material>} の場合は変更不可能なビューを、{@code EnumSet<Material>} の場合は {@link EnumSet} をそのまま返します。
+ * {@code HashSet<Material>} などの他のサブタイプには対応しないため、{@link #supports(Type)} に一致する型にのみ登録してください。
+ * 名前の解決には {@link MaterialSerializer#match(String)} を使用します。
+ */
+@NullMarked
+public final class MaterialSetSerializer implements TypeSerializer<Set<Material>> {
+
+    /**
+     * このシリアライザーのインスタンスを生成する。
+     */
+    public MaterialSetSerializer() {
+    }
+
+    /**
+     * 指定された型をこのシリアライザーで扱えるかどうかを判定する。
+     *
+     * @param type 判定する型
+     * @return 型が {@code Set<Material>} または {@code EnumSet<Material>} ちょうどの場合は {@code true}
+     */
+    public static boolean supports(final Type type) {
+        return MaterialSerializer.isMaterialCollection(type, Set.class)
+                || MaterialSerializer.isMaterialCollection(type, EnumSet.class);
+    }
+
+    /**
+     * 設定ノードのリストから {@link EnumSet} を生成する。
+     *
+     * @param type デシリアライズ対象の型情報
+     * @param node 設定ファイル上のノード
+     * @return デシリアライズされたマテリアルの集合
+     * @throws SerializationException ノードがリストでない、または対応するマテリアルが見つからない場合
+     */
+    @Override
+    public Set<Material> deserialize(final Type type, final ConfigurationNode node) throws SerializationException {
+        final EnumSet<Material> materials = EnumSet.noneOf(Material.class);
+        Collections.addAll(materials, MaterialSerializer.matchAll(type, node));
+
+        // EnumSetを要求された場合はそのまま、Setの場合は変更不可能なビューを返す
+        return MaterialSerializer.isMaterialCollection(type, EnumSet.class)
+                ? materials
+                : Collections.unmodifiableSet(materials);
+    }
+
+    /**
+     * マテリアルの集合をキーのリストとして設定ノードにシリアライズする。
+     *
+     * @param type シリアライズ対象の型
+     * @param obj  シリアライズ対象のマテリアルの集合
+     * @param node 設定ファイル上のノード
+     * @throws SerializationException シリアライズ中にエラーが発生した場合
+     */
+    @Override
+    public void serialize(final Type type, @Nullable final Set<Material> obj, final ConfigurationNode node) throws SerializationException {
+        if (obj == null) {
+            node.set(null);
+            return;
+        }
+        MaterialSerializer.serializeAll(obj, node);
+    }
+}
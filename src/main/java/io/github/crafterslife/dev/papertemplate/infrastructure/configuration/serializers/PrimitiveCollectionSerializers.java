@@ -0,0 +1,200 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.configuration.serializers;
+
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.DoubleList;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.DoubleSet;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.IntList;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.IntSet;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.LongList;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.LongSet;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.StringDoubleMap;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.StringIntMap;
+import io.github.crafterslife.dev.papertemplate.infrastructure.configuration.collections.StringLongMap;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.BaseStream;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+
+/**
+ * プリミティブ型に特化した不変コレクションのための {@code Configurate} のカスタム {@link TypeSerializer} 群。
+ * <p>
+ * 設定ファイル上では通常のリストやマップとして表現され、読み込み時に
+ * {@code collections} パッケージのボクシングのないコレクションに変換されます。
+ * {@code int[]} 、{@code long[]} 、{@code double[]} などの配列は {@code Configurate} 標準のシリアライザーで扱われます。
+ */
+@NullMarked
+public final class PrimitiveCollectionSerializers {
+
+    private PrimitiveCollectionSerializers() {
+    }
+
+    /**
+     * プリミティブ型に特化したコレクションのシリアライザーをすべて含むコレクションを生成する。
+     *
+     * @return シリアライザーのコレクション
+     */
+    public static TypeSerializerCollection collection() {
+        return TypeSerializerCollection.builder()
+                // リスト
+                .register(IntList.class, serializer(
+                        (type, node) -> IntList.of(readInts(type, node)),
+                        (list, node) -> writeList(node, list.stream().boxed())))
+                .register(LongList.class, serializer(
+                        (type, node) -> LongList.of(readLongs(type, node)),
+                        (list, node) -> writeList(node, list.stream().boxed())))
+                .register(DoubleList.class, serializer(
+                        (type, node) -> DoubleList.of(readDoubles(type, node)),
+                        (list, node) -> writeList(node, list.stream().boxed())))
+                // 集合
+                .register(IntSet.class, serializer(
+                        (type, node) -> IntSet.of(readInts(type, node)),
+                        (set, node) -> writeList(node, set.stream().boxed())))
+                .register(LongSet.class, serializer(
+                        (type, node) -> LongSet.of(readLongs(type, node)),
+                        (set, node) -> writeList(node, set.stream().boxed())))
+                .register(DoubleSet.class, serializer(
+                        (type, node) -> DoubleSet.of(readDoubles(type, node)),
+                        (set, node) -> writeList(node, set.stream().boxed())))
+                // マップ
+                .register(StringIntMap.class, serializer(
+                        (type, node) -> StringIntMap.copyOf(readMap(type, node, Integer.class)),
+                        (map, node) -> writeMap(node, map.toMap())))
+                .register(StringLongMap.class, serializer(
+                        (type, node) -> StringLongMap.copyOf(readMap(type, node, Long.class)),
+                        (map, node) -> writeMap(node, map.toMap())))
+                .register(StringDoubleMap.class, serializer(
+                        (type, node) -> StringDoubleMap.copyOf(readMap(type, node, Double.class)),
+                        (map, node) -> writeMap(node, map.toMap())))
+                .build();
+    }
+
+    private static <T> TypeSerializer<T> serializer(final Reader<T> reader, final Writer<T> writer) {
+        return new TypeSerializer<>() {
+            @Override
+            public T deserialize(final Type type, final ConfigurationNode node) throws SerializationException {
+                return reader.read(type, node);
+            }
+
+            @Override
+            public void serialize(final Type type, final @Nullable T obj, final ConfigurationNode node) throws SerializationException {
+                if (obj == null) {
+                    node.set(null);
+                } else {
+                    writer.write(obj, node);
+                }
+            }
+        };
+    }
+
+    private static int[] readInts(final Type type, final ConfigurationNode node) throws SerializationException {
+        final List<? extends ConfigurationNode> children = listChildren(type, node);
+        final int[] values = new int[children.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = requireValue(children.get(i), Integer.class);
+        }
+        return values;
+    }
+
+    private static long[] readLongs(final Type type, final ConfigurationNode node) throws SerializationException {
+        final List<? extends ConfigurationNode> children = listChildren(type, node);
+        final long[] values = new long[children.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = requireValue(children.get(i), Long.class);
+        }
+        return values;
+    }
+
+    private static double[] readDoubles(final Type type, final ConfigurationNode node) throws SerializationException {
+        final List<? extends ConfigurationNode> children = listChildren(type, node);
+        final double[] values = new double[children.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = requireValue(children.get(i), Double.class);
+        }
+        return values;
+    }
+
+    private static <E> Map<String, E> readMap(final Type type, final ConfigurationNode node, final Class<E> valueType) throws SerializationException {
+        if (!node.empty() && !node.isMap()) {
+            throw new SerializationException(node, type, "Expected a map");
+        }
+
+        // 値の型変換は読み込み時のみ行い、結果はプリミティブ配列に格納される
+        final Map<String, E> values = new LinkedHashMap<>();
+        for (final Map.Entry<Object, ? extends ConfigurationNode> entry : node.childrenMap().entrySet()) {
+            values.put(String.valueOf(entry.getKey()), requireValue(entry.getValue(), valueType));
+        }
+        return values;
+    }
+
+    private static List<? extends ConfigurationNode> listChildren(final Type type, final ConfigurationNode node) throws SerializationException {
+        if (!node.empty() && !node.isList()) {
+            throw new SerializationException(node, type, "Expected a list");
+        }
+        return node.childrenList();
+    }
+
+    private static <E> E requireValue(final ConfigurationNode node, final Class<E> valueType) throws SerializationException {
+        final E value = node.get(valueType);
+        if (value == null) {
+            throw new SerializationException(node, valueType, "Expected a numeric value");
+        }
+        return value;
+    }
+
+    private static void writeList(final ConfigurationNode node, final BaseStream<? extends Number, ?> values) {
+        node.raw(List.of());
+        values.iterator().forEachRemaining(value -> node.appendListNode().raw(value));
+    }
+
+    private static void writeMap(final ConfigurationNode node, final Map<String, ? extends Number> values) {
+        node.raw(Map.of());
+        values.forEach((key, value) -> node.node(key).raw(value));
+    }
+
+    /**
+     * 設定ノードからコレクションを読み込む関数。
+     *
+     * @param <T> コレクションの型
+     */
+    @FunctionalInterface
+    private interface Reader<T> {
+
+        T read(Type type, ConfigurationNode node) throws SerializationException;
+    }
+
+    /**
+     * コレクションを設定ノードに書き込む関数。
+     *
+     * @param <T> コレクションの型
+     */
+    @FunctionalInterface
+    private interface Writer<T> {
+
+        void write(T value, ConfigurationNode node) throws SerializationException;
+    }
+}
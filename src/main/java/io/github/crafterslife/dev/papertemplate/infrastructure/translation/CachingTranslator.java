@@ -0,0 +1,348 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.Translator;
+import net.kyori.adventure.util.TriState;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 翻訳結果をキャッシュする {@link Translator} のデコレーター。
+ * <p>
+ * {@link net.kyori.adventure.translation.GlobalTranslator} は送信のたびに翻訳可能コンポーネントをMiniMessageから描画し直すため、
+ * 同じメッセージを何度も送信すると同じコンポーネントの木が繰り返し生成されます。
+ * このクラスは、翻訳可能コンポーネント (キー、引数、子を含む) とロケールの組ごとに描画結果を保持し、2回目以降は同じインスタンスを返します。
+ * <p>
+ * プレースホルダーを含まないメッセージの描画結果は無期限に保持します。
+ * プレースホルダーの値は時間とともに変わるため、プレースホルダーを含むメッセージの描画結果は指定されたティック数の間だけ保持します。
+ * グローバルなプレースホルダーのみを含むメッセージはロケールごとに、プレイヤーに依存するプレースホルダーを含むメッセージは
+ * 引数のプレイヤーごとに、それぞれ保持期間内に一度だけ描画されます。
+ * <p>
+ * 引数は {@link Object#equals} と {@link Object#hashCode} で比較されるため、キャッシュがヒットするのは引数が値としての等価性を実装している場合だけです。
+ * テキストや数値などの標準のコンポーネントは等価性を実装していますが、等価性を実装していない引数 (独自の {@code VirtualComponent} のレンダラーなど) を含むメッセージは
+ * 毎回描画されます (結果は正しいまま、キャッシュが効かないだけです)。
+ * <p>
+ * 描画スレッドが互いを待たないよう、キャッシュはロックを取らずに読み書きします。
+ * どちらのキャッシュも容量を超えると、最後に使われたティックが古いエントリーからまとめて破棄されます。
+ */
+@NullMarked
+final class CachingTranslator implements Translator {
+
+    private final IndexedTranslator delegate;
+    private final MessageIndex index;
+    private final Policy[] policies; // 翻訳キーのIDを添字とする
+    private final IntSupplier tickSource;
+    private final Tier staticTier;
+    private final Tier placeholderTier;
+
+    private volatile int globalPlaceholderTicks;
+    private volatile int audiencePlaceholderTicks;
+
+    /**
+     * 指定された {@link Translator} をキャッシュで包んだ {@code CachingTranslator} を生成する。
+     * <p>
+     * プレースホルダーを含むメッセージの描画結果の保持期間は、初期状態ではどちらも1ティックです。
+     *
+     * @param delegate   実際に翻訳を行う {@code Translator}
+     * @param index      翻訳キーのインデックス
+     * @param policies   翻訳キーごとのキャッシュの方針 (含まれないキーはキャッシュしない)
+     * @param tickSource 現在のティックを返す関数
+     * @param capacity   それぞれのキャッシュに保持するエントリーの最大数
+     */
+    CachingTranslator(
+            final IndexedTranslator delegate,
+            final MessageIndex index,
+            final Map<String, Policy> policies,
+            final IntSupplier tickSource,
+            final int capacity
+    ) {
+        this.delegate = delegate;
+        this.index = index;
+        this.policies = new Policy[index.size()];
+        for (int id = 0; id < index.size(); id++) {
+            this.policies[id] = policies.getOrDefault(index.key(id), Policy.NONE);
+        }
+        this.tickSource = tickSource;
+        this.staticTier = new Tier(capacity);
+        this.placeholderTier = new Tier(capacity);
+        this.globalPlaceholderTicks = 1;
+        this.audiencePlaceholderTicks = 1;
+    }
+
+    @Override
+    public Key name() {
+        return this.delegate.name();
+    }
+
+    @Override
+    public TriState hasAnyTranslations() {
+        return this.delegate.hasAnyTranslations();
+    }
+
+    @Override
+    public boolean canTranslate(final String key, final Locale locale) {
+        return this.delegate.canTranslate(key, locale);
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return this.delegate.translate(key, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        // 翻訳キーのIDはここで一度だけ解決し、内側のデコレーターに渡す
+        final int id = this.index.id(component.key());
+        final Policy policy = id < 0 ? Policy.NONE : this.policies[id];
+        return switch (policy) {
+            case NONE -> this.delegate.translate(id, component, locale);
+            case STATIC -> this.staticTier.render(this.delegate, id, component, locale, this.tickSource.getAsInt(), Integer.MAX_VALUE);
+            case GLOBAL_PLACEHOLDERS -> this.renderWithPlaceholders(id, component, locale, this.globalPlaceholderTicks);
+            case AUDIENCE_PLACEHOLDERS -> this.renderWithPlaceholders(id, component, locale, this.audiencePlaceholderTicks);
+        };
+    }
+
+    /**
+     * プレースホルダーを含むメッセージの描画結果を保持するティック数を設定する。
+     * <p>
+     * {@code 0} 以下を指定した場合、そのメッセージはキャッシュされません。
+     *
+     * @param globalTicks   グローバルなプレースホルダーのみを含むメッセージの保持期間
+     * @param audienceTicks プレイヤーに依存するプレースホルダーを含むメッセージの保持期間
+     */
+    void placeholderTicks(final int globalTicks, final int audienceTicks) {
+        this.globalPlaceholderTicks = globalTicks;
+        this.audiencePlaceholderTicks = audienceTicks;
+    }
+
+    /**
+     * キャッシュされたすべての描画結果を破棄する。
+     * <p>
+     * 翻訳を再読み込みした場合は、古い翻訳の描画結果が返されないようにこのメソッドを呼び出してください。
+     */
+    void invalidate() {
+        this.staticTier.clear();
+        this.placeholderTier.clear();
+    }
+
+    /**
+     * キャッシュの統計を取得する。
+     *
+     * @return キャッシュの統計
+     */
+    RenderCacheStatistics statistics() {
+        return new RenderCacheStatistics(
+                this.staticTier.hits.sum(),
+                this.staticTier.misses.sum(),
+                this.staticTier.size(),
+                this.placeholderTier.hits.sum(),
+                this.placeholderTier.misses.sum(),
+                this.placeholderTier.size()
+        );
+    }
+
+    private @Nullable Component renderWithPlaceholders(final int id, final TranslatableComponent component, final Locale locale, final int ticks) {
+        if (ticks <= 0) {
+            return this.delegate.translate(id, component, locale);
+        }
+        return this.placeholderTier.render(this.delegate, id, component, locale, this.tickSource.getAsInt(), ticks);
+    }
+
+    /**
+     * 翻訳キーごとのキャッシュの方針。
+     */
+    enum Policy {
+        /**
+         * キャッシュしない。
+         */
+        NONE,
+        /**
+         * プレースホルダーを含まないため、無期限にキャッシュする。
+         */
+        STATIC,
+        /**
+         * グローバルなプレースホルダーのみを含むため、グローバルな保持期間の間キャッシュする。
+         */
+        GLOBAL_PLACEHOLDERS,
+        /**
+         * プレイヤーに依存するプレースホルダーを含むため、プレイヤーごとの保持期間の間キャッシュする。
+         */
+        AUDIENCE_PLACEHOLDERS
+    }
+
+    // 容量を持つキャッシュと、そのヒット数とミス数
+    private static final class Tier {
+
+        private final int capacity;
+        private final ConcurrentMap<RenderKey, CachedRender> entries;
+        private final AtomicBoolean evicting;
+        private final LongAdder hits;
+        private final LongAdder misses;
+
+        Tier(final int capacity) {
+            this.capacity = capacity;
+            this.entries = new ConcurrentHashMap<>();
+            this.evicting = new AtomicBoolean();
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+        }
+
+        @Nullable Component render(
+                final IndexedTranslator delegate,
+                final int id,
+                final TranslatableComponent component,
+                final Locale locale,
+                final int tick,
+                final int ticks
+        ) {
+            final RenderKey renderKey = RenderKey.of(id, component, locale);
+            final @Nullable CachedRender cached = this.entries.get(renderKey);
+            if (cached != null && tick - cached.renderedTick() < ticks) {
+                cached.touch(tick);
+                this.hits.increment();
+                return cached.component();
+            }
+
+            // 同時に描画された場合は後から格納した結果が残る
+            this.misses.increment();
+            final @Nullable Component rendered = delegate.translate(id, component, locale);
+            if (rendered != null) {
+                this.entries.put(renderKey, new CachedRender(rendered, tick));
+                if (this.entries.size() > this.capacity) {
+                    this.evict();
+                }
+            }
+            return rendered;
+        }
+
+        // 最後に使われたティックが古いエントリーから、容量の4分の3になるまで破棄する (同時に1つのスレッドだけが行う)
+        private void evict() {
+            if (!this.evicting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                final int[] lastUsed = this.entries.values().stream()
+                        .mapToInt(CachedRender::lastUsedTick)
+                        .sorted()
+                        .toArray();
+                final int excess = lastUsed.length - this.capacity * 3 / 4;
+                if (excess > 0) {
+                    final int threshold = lastUsed[excess - 1];
+                    this.entries.values().removeIf(entry -> entry.lastUsedTick() <= threshold);
+                }
+            } finally {
+                this.evicting.set(false);
+            }
+        }
+
+        int size() {
+            return this.entries.size();
+        }
+
+        void clear() {
+            this.entries.clear();
+        }
+    }
+
+    // 翻訳キーのID、ロケール、翻訳可能コンポーネントの組
+    // 引数も子もスタイルも持たないコンポーネントはIDだけで比較し、コンポーネントの木のハッシュ値の計算を省く
+    private static final class RenderKey {
+
+        private final int id;
+        private final Locale locale;
+        private final @Nullable TranslatableComponent component;
+        private final int hash;
+
+        private RenderKey(final int id, final Locale locale, final @Nullable TranslatableComponent component) {
+            this.id = id;
+            this.locale = locale;
+            this.component = component;
+            this.hash = 31 * (31 * id + locale.hashCode()) + Objects.hashCode(component);
+        }
+
+        static RenderKey of(final int id, final TranslatableComponent component, final Locale locale) {
+            final boolean keyOnly = component.arguments().isEmpty()
+                    && component.children().isEmpty()
+                    && component.style().isEmpty()
+                    && component.fallback() == null;
+            return new RenderKey(id, locale, keyOnly ? null : component);
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object other) {
+            return other instanceof RenderKey that
+                    && this.id == that.id
+                    && this.hash == that.hash
+                    && this.locale.equals(that.locale)
+                    && Objects.equals(this.component, that.component);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    // 描画結果と、描画したティックと最後に使われたティック
+    private static final class CachedRender {
+
+        private final Component component;
+        private final int renderedTick;
+        private volatile int lastUsedTick;
+
+        CachedRender(final Component component, final int renderedTick) {
+            this.component = component;
+            this.renderedTick = renderedTick;
+            this.lastUsedTick = renderedTick;
+        }
+
+        Component component() {
+            return this.component;
+        }
+
+        int renderedTick() {
+            return this.renderedTick;
+        }
+
+        int lastUsedTick() {
+            return this.lastUsedTick;
+        }
+
+        // 同じティックの間は書き込まず、ヒットのたびにキャッシュラインを奪い合わないようにする
+        void touch(final int tick) {
+            if (this.lastUsedTick != tick) {
+                this.lastUsedTick = tick;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.Translator;
+import net.kyori.adventure.util.TriState;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * メッセージインターフェースのテンプレートを翻訳キーのIDで検索して描画する {@link Translator} のデコレーター。
+ * <p>
+ * 引数もプレースホルダーも含まないテンプレートは、描画済みのコンポーネントをそのまま返し、MiniMessageのパースを省略します。
+ * 翻訳可能コンポーネントのスタイルと子は {@link MessageTemplates#render} で描画結果に適用します。
+ * それ以外のテンプレートも起動時に翻訳キーのIDと対応付けておき、描画時は翻訳キーの文字列で検索せずに、引数とともにパースします。
+ * <p>
+ * テンプレートはロケールごとに翻訳キーのIDを添字とした配列で保持するため、外側のデコレーターから翻訳キーのIDを受け取れば、検索は配列の参照だけで済みます。
+ * 要求されたロケールにテンプレートがない翻訳キーは、言語のみのロケール、デフォルトのロケールの順に探します。
+ * このインデックスに含まれない翻訳キーは委譲先で描画されます。
+ *
+ * @see MessageTemplates
+ */
+@NullMarked
+final class CompiledTemplateTranslator implements IndexedTranslator {
+
+    // ロケールごとに解決したテンプレートの配列を記憶する最大数 (クライアントが送るロケールは任意の文字列のため上限を設ける)
+    private static final int RESOLVED_LOCALE_CAPACITY = 256;
+
+    private final Translator delegate;
+    private final MessageIndex index;
+    private final Map<Locale, MessageTemplates.@Nullable Renderer[]> templates;
+    private final Locale defaultLocale;
+    private final ConcurrentMap<Locale, MessageTemplates.@Nullable Renderer[]> resolved;
+
+    /**
+     * 指定された {@link Translator} とパース済みのテンプレートから {@code CompiledTemplateTranslator} を生成する。
+     *
+     * @param delegate      インデックスに含まれない翻訳キーの翻訳を行う {@code Translator}
+     * @param index         翻訳キーのインデックス
+     * @param templates     ロケールごとの、翻訳キーのIDを添字としたテンプレートの配列
+     * @param defaultLocale テンプレートが見つからない場合に使用するロケール
+     */
+    CompiledTemplateTranslator(
+            final Translator delegate,
+            final MessageIndex index,
+            final Map<Locale, MessageTemplates.@Nullable Renderer[]> templates,
+            final Locale defaultLocale
+    ) {
+        this.delegate = delegate;
+        this.index = index;
+        this.templates = Map.copyOf(templates);
+        this.defaultLocale = defaultLocale;
+        this.resolved = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Key name() {
+        return this.delegate.name();
+    }
+
+    @Override
+    public TriState hasAnyTranslations() {
+        return this.delegate.hasAnyTranslations();
+    }
+
+    @Override
+    public boolean canTranslate(final String key, final Locale locale) {
+        return this.delegate.canTranslate(key, locale);
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return this.delegate.translate(key, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        return this.translate(this.index.id(component.key()), component, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final int id, final TranslatableComponent component, final Locale locale) {
+        if (id < 0) {
+            return this.delegate.translate(component, locale);
+        }
+        final MessageTemplates.@Nullable Renderer renderer = this.resolve(locale)[id];
+        return renderer != null ? renderer.render(component, locale) : null;
+    }
+
+    /**
+     * 指定された翻訳キーのテンプレートが、要求されたロケールまたはその言語のみのロケールに定義されているかどうかを判定する。
+     * <p>
+     * デフォルトのロケールへのフォールバックで見つかるテンプレートは含みません。
+     *
+     * @param id     翻訳キーのID
+     * @param locale ロケール
+     * @return そのロケール向けのテンプレートがある場合は {@code true}
+     */
+    boolean hasLocalizedTemplate(final int id, final Locale locale) {
+        final Locale[] candidates = {locale, Locale.of(locale.getLanguage())};
+        for (final Locale candidate : candidates) {
+            final MessageTemplates.@Nullable Renderer @Nullable [] byId = this.templates.get(candidate);
+            if (byId != null && byId[id] != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private MessageTemplates.@Nullable Renderer[] resolve(final Locale locale) {
+        final MessageTemplates.@Nullable Renderer @Nullable [] cached = this.resolved.get(locale);
+        if (cached != null) {
+            return cached;
+        }
+        final MessageTemplates.@Nullable Renderer[] merged = this.merge(locale);
+        if (this.resolved.size() < RESOLVED_LOCALE_CAPACITY) {
+            this.resolved.putIfAbsent(locale, merged);
+        }
+        return merged;
+    }
+
+    // 翻訳キーごとに、ロケール、言語のみのロケール、デフォルトのロケールの順で最初に見つかったテンプレートを選ぶ
+    private MessageTemplates.@Nullable Renderer[] merge(final Locale locale) {
+        final MessageTemplates.@Nullable Renderer[] merged = new MessageTemplates.Renderer[this.index.size()];
+        final Locale[] candidates = {locale, Locale.of(locale.getLanguage()), this.defaultLocale};
+        for (final Locale candidate : candidates) {
+            final MessageTemplates.@Nullable Renderer @Nullable [] byId = this.templates.get(candidate);
+            if (byId == null) {
+                continue;
+            }
+            for (int id = 0; id < merged.length; id++) {
+                if (merged[id] == null) {
+                    merged[id] = byId[id];
+                }
+            }
+        }
+        return merged;
+    }
+}
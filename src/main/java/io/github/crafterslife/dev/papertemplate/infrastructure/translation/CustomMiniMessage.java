@@ -19,33 +19,47 @@
  */
 package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * カスタムタグを含んだ {@code MiniMessage} インスタンスを保持するためのユーティリティークラス。
+ * <p>
+ * タグを含まない文字列や、安全色のタグ1つだけで装飾された文字列は、MiniMessageのトークナイザーを通さずにコンポーネントを生成する
+ * 高速な経路を提供します。
+ * <p>
+ * この経路を通るのは、テンプレートを検証して事前に描画する起動時と翻訳ファイルの読み込み時だけです。
+ * 描画時は、静的なテンプレートであれば事前に描画した結果を使い回すためパース自体が行われず、
+ * 静的でないテンプレートは引数やプレースホルダーのタグを含むため、この経路の対象になりません。
  */
 @NullMarked
 final class CustomMiniMessage {
 
     static final MiniMessage CUSTOM_MINI_MESSAGE;
 
-    static {
-        // JIS Z 9103 https://ja.wikipedia.org/wiki/JIS%E5%AE%89%E5%85%A8%E8%89%B2
-        final TextColor red = TextColor.color(0xFF4B00);
-        final TextColor yellow = TextColor.color(0xF2E700);
-        final TextColor green = TextColor.color(0x00B06B);
-        final TextColor blue = TextColor.color(0x1971FF);
+    // JIS Z 9103 https://ja.wikipedia.org/wiki/JIS%E5%AE%89%E5%85%A8%E8%89%B2
+    private static final Map<String, TextColor> SAFETY_COLORS = Map.of(
+            "error", TextColor.color(0xFF4B00), // 赤
+            "warn", TextColor.color(0xF2E700), // 黄
+            "info", TextColor.color(0x00B06B), // 緑
+            "debug", TextColor.color(0x1971FF) // 青
+    );
+
+    // 安全色のみのテンプレートの描画結果を記憶する最大数
+    private static final int SAFETY_COLOR_CACHE_CAPACITY = 256;
+    private static final Map<String, Component> SAFETY_COLOR_CACHE = new ConcurrentHashMap<>();
 
+    static {
         final TagResolver.Builder safetyColors = TagResolver.builder()
-                .resolver(TagResolver.standard())
-                .tag("error", Tag.styling(red))
-                .tag("warn", Tag.styling(yellow))
-                .tag("info", Tag.styling(green))
-                .tag("debug", Tag.styling(blue));
+                .resolver(TagResolver.standard());
+        SAFETY_COLORS.forEach((name, color) -> safetyColors.tag(name, Tag.styling(color)));
 
         CUSTOM_MINI_MESSAGE = MiniMessage.builder()
                 .tags(safetyColors.build())
@@ -54,4 +68,76 @@ final class CustomMiniMessage {
 
     private CustomMiniMessage() {
     }
+
+    /**
+     * 指定された文字列を {@link #CUSTOM_MINI_MESSAGE} でコンポーネントに変換する。
+     * <p>
+     * 静的な文字列 ({@link #parseStatic} を参照) はトークナイザーを通さずに変換します。
+     *
+     * @param input    MiniMessage形式の文字列
+     * @param resolver 追加のタグリゾルバー
+     * @return 変換されたコンポーネント
+     */
+    static Component deserialize(final String input, final TagResolver resolver) {
+        final @Nullable Component staticComponent = parseStatic(input);
+        return staticComponent != null ? staticComponent : CUSTOM_MINI_MESSAGE.deserialize(input, resolver);
+    }
+
+    /**
+     * 指定された文字列が静的であれば、MiniMessageのトークナイザーを通さずにコンポーネントに変換する。
+     * <p>
+     * 以下のいずれかに当てはまる文字列を静的とみなします。
+     * <ul>
+     *     <li>タグもエスケープも含まない文字列</li>
+     *     <li>先頭の安全色のタグ1つ (と、任意で末尾の閉じタグ) 以外にタグもエスケープも含まない文字列</li>
+     * </ul>
+     * 安全色のみの文字列の変換結果は記憶され、2回目以降は同じインスタンスを返します。
+     *
+     * @param input MiniMessage形式の文字列
+     * @return 変換されたコンポーネント、または静的でない場合は {@code null}
+     */
+    static @Nullable Component parseStatic(final String input) {
+        if (isPlainText(input, 0, input.length())) {
+            return Component.text(input);
+        }
+
+        final @Nullable Component cached = SAFETY_COLOR_CACHE.get(input);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 先頭の<name>を読み取り、安全色のタグかどうかを判定
+        final int tagEnd = input.indexOf('>');
+        if (!input.startsWith("<") || tagEnd < 0) {
+            return null;
+        }
+        final String name = input.substring(1, tagEnd);
+        final @Nullable TextColor color = SAFETY_COLORS.get(name);
+        if (color == null) {
+            return null;
+        }
+
+        final String closingTag = "</" + name + ">";
+        final int contentEnd = input.endsWith(closingTag) ? input.length() - closingTag.length() : input.length();
+        if (contentEnd < tagEnd + 1 || !isPlainText(input, tagEnd + 1, contentEnd)) {
+            return null;
+        }
+
+        final Component component = Component.text(input.substring(tagEnd + 1, contentEnd), color);
+        if (SAFETY_COLOR_CACHE.size() < SAFETY_COLOR_CACHE_CAPACITY) {
+            SAFETY_COLOR_CACHE.put(input, component);
+        }
+        return component;
+    }
+
+    // MiniMessageが特別に扱う文字 (タグの開始とエスケープ) を含まないかどうか
+    private static boolean isPlainText(final String input, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c == '<' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
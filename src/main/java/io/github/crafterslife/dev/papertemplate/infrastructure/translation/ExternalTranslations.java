@@ -0,0 +1,343 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import net.kyori.adventure.key.Key;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.translation.Translator;
+import net.kyori.adventure.util.TriState;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * データディレクトリの翻訳ファイルから、翻訳の上書きと追加のロケールを読み込む {@link Translator} のデコレーター。
+ * <p>
+ * 翻訳ファイルは {@value #DIRECTORY_NAME} ディレクトリに {@code <ロケール>.properties} (例: {@code ja_JP.properties}, {@code fr.properties})
+ * という名前で配置し、翻訳キーとMiniMessageのテンプレートを記述します。国を含むファイルの内容は言語のみのファイルの内容より優先されます。
+ * 翻訳ファイルに含まれないキーは、メッセージインターフェースに定義された翻訳が使用されます。
+ * ただし、メッセージインターフェースにもそのロケール向けの翻訳がないキーは、組み込みのデフォルトのロケールの翻訳より先に
+ * デフォルトのロケールの翻訳ファイルを使用します。
+ * <p>
+ * テンプレートはメッセージインターフェースのテンプレートと同じ方法 ({@link MessageTemplates#parse}) で検証し、
+ * パースできないテンプレートや、引数でもプレースホルダーでもないタグを含むテンプレートは警告を出力して無視します。
+ * <p>
+ * デフォルトのロケールの翻訳ファイルのみ起動時に読み込み、その他のロケールはそのロケールの描画が初めて要求されたときに別のスレッドで読み込みます。
+ * 読み込みが終わるまでは、メッセージインターフェースに定義された翻訳が使用されます。
+ * 一定時間使われなかったロケールの翻訳は破棄されるため、メモリ使用量はオンラインのプレイヤーのロケールの数に比例します。
+ */
+@NullMarked
+final class ExternalTranslations implements IndexedTranslator {
+
+    static final String DIRECTORY_NAME = "translations";
+
+    // 使われなかったロケールの翻訳を破棄するまでの時間と、破棄の判定を行う間隔
+    private static final long IDLE_TIMEOUT_NANOS = Duration.ofMinutes(10).toNanos();
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofMinutes(1).toNanos();
+
+    private final CompiledTemplateTranslator delegate;
+    private final MessageIndex index;
+    private final Map<String, MessageTemplates.AllowedTags> allowedTags;
+    private final Path directory;
+    private final Locale defaultLocale;
+    private final MiniMessage miniMessage;
+    private final Executor loadExecutor;
+    private final ComponentLogger logger;
+    private final ConcurrentMap<Locale, Bundle> bundles;
+    private final AtomicLong lastSweep;
+    private volatile Runnable loadListener;
+
+    /**
+     * {@code ExternalTranslations} を生成し、デフォルトのロケールの翻訳ファイルを読み込む。
+     *
+     * @param delegate      翻訳ファイルに含まれないキーの翻訳を行うメッセージインターフェースの {@code Translator}
+     * @param index         翻訳キーのインデックス
+     * @param allowedTags   翻訳キーごとのテンプレートで使用できるタグ
+     * @param directory     翻訳ファイルを配置するディレクトリ
+     * @param defaultLocale デフォルトのロケール
+     * @param miniMessage   テンプレートの描画に使用する {@code MiniMessage}
+     * @param loadExecutor  デフォルト以外のロケールの翻訳ファイルを読み込む実行器
+     * @param logger        ロガー
+     */
+    ExternalTranslations(
+            final CompiledTemplateTranslator delegate,
+            final MessageIndex index,
+            final Map<String, MessageTemplates.AllowedTags> allowedTags,
+            final Path directory,
+            final Locale defaultLocale,
+            final MiniMessage miniMessage,
+            final Executor loadExecutor,
+            final ComponentLogger logger
+    ) {
+        this.delegate = delegate;
+        this.index = index;
+        this.allowedTags = allowedTags;
+        this.directory = directory;
+        this.defaultLocale = defaultLocale;
+        this.miniMessage = miniMessage;
+        this.loadExecutor = loadExecutor;
+        this.logger = logger;
+        this.bundles = new ConcurrentHashMap<>();
+        this.lastSweep = new AtomicLong(System.nanoTime());
+        this.loadListener = () -> { };
+        this.bundles.put(defaultLocale, this.loadBundle(defaultLocale));
+    }
+
+    @Override
+    public Key name() {
+        return this.delegate.name();
+    }
+
+    @Override
+    public TriState hasAnyTranslations() {
+        return this.delegate.hasAnyTranslations();
+    }
+
+    @Override
+    public boolean canTranslate(final String key, final Locale locale) {
+        final int id = this.index.id(key);
+        return id >= 0 && this.override(id, locale) != null || this.delegate.canTranslate(key, locale);
+    }
+
+    @Override
+    public @Nullable MessageFormat translate(final String key, final Locale locale) {
+        return this.delegate.translate(key, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+        return this.translate(this.index.id(component.key()), component, locale);
+    }
+
+    @Override
+    public @Nullable Component translate(final int id, final TranslatableComponent component, final Locale locale) {
+        if (id >= 0) {
+            final MessageTemplates.@Nullable Renderer renderer = this.override(id, locale);
+            if (renderer != null) {
+                return renderer.render(component, locale);
+            }
+        }
+        return this.delegate.translate(id, component, locale);
+    }
+
+    /**
+     * 読み込み済みの翻訳ファイルをすべて破棄し、デフォルトのロケールの翻訳ファイルを読み込み直す。
+     * <p>
+     * その他のロケールは次に描画が要求されたときに読み込まれます。
+     */
+    void reload() {
+        final Bundle defaultBundle = this.loadBundle(this.defaultLocale);
+        this.bundles.clear();
+        this.bundles.put(this.defaultLocale, defaultBundle);
+    }
+
+    /**
+     * デフォルト以外のロケールの翻訳ファイルの読み込みが終わったときに実行する処理を設定する。
+     * <p>
+     * 読み込みが終わるまでに描画された結果はメッセージインターフェースの翻訳を使っているため、キャッシュの破棄に使用します。
+     * 処理は読み込みを行ったスレッドで実行されます。
+     *
+     * @param listener 読み込みが終わったときに実行する処理
+     */
+    void onLoad(final Runnable listener) {
+        this.loadListener = listener;
+    }
+
+    // 翻訳ファイルのテンプレートを、ロケールの翻訳ファイル、デフォルトのロケールの翻訳ファイルの順に探す
+    private MessageTemplates.@Nullable Renderer override(final int id, final Locale locale) {
+        final MessageTemplates.@Nullable Renderer renderer = this.bundle(locale).template(id);
+        if (renderer != null || locale.equals(this.defaultLocale)) {
+            return renderer;
+        }
+
+        // 組み込みの翻訳にそのロケール向けのテンプレートがあれば、デフォルトのロケールの翻訳ファイルより優先する
+        if (this.delegate.hasLocalizedTemplate(id, locale)) {
+            return null;
+        }
+        final @Nullable Bundle defaultBundle = this.bundles.get(this.defaultLocale); // 再読み込みの途中は存在しない
+        return defaultBundle != null ? defaultBundle.template(id) : null;
+    }
+
+    private Bundle bundle(final Locale locale) {
+        final long now = System.nanoTime();
+        this.sweep(now);
+        final @Nullable Bundle existing = this.bundles.get(locale);
+        final Bundle bundle = existing != null ? existing : this.startLoading(locale);
+        bundle.touch(now);
+        return bundle;
+    }
+
+    // 描画スレッドでファイルを読まないよう、読み込み中は空の翻訳を置いて委譲先で描画させる
+    private Bundle startLoading(final Locale locale) {
+        final Bundle loading = Bundle.empty();
+        final @Nullable Bundle raced = this.bundles.putIfAbsent(locale, loading);
+        if (raced != null) {
+            return raced;
+        }
+
+        try {
+            this.loadExecutor.execute(() -> {
+                try {
+                    final Bundle loaded = this.loadBundle(locale);
+                    // 読み込み中に再読み込みや破棄が行われた場合は、古い翻訳ファイルの結果なので捨てる
+                    if (this.bundles.replace(locale, loading, loaded) && loaded.hasTranslations()) {
+                        this.loadListener.run();
+                    }
+                } catch (final RuntimeException exception) {
+                    this.logger.error("{} の翻訳ファイルの読み込みに失敗しました。", locale, exception);
+                }
+            });
+        } catch (final RejectedExecutionException exception) {
+            // プラグインの無効化で実行器が終了している (組み込みの翻訳を使い続ける)
+            this.logger.debug("{} の翻訳ファイルを読み込めませんでした: {}", locale, exception.getMessage());
+        }
+        return loading;
+    }
+
+    // 描画のたびに判定しないよう、一定の間隔でのみ使われていないロケールを破棄する
+    private void sweep(final long now) {
+        final long last = this.lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !this.lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        this.bundles.entrySet().removeIf(entry -> !entry.getKey().equals(this.defaultLocale)
+                && now - entry.getValue().lastAccess() > IDLE_TIMEOUT_NANOS);
+    }
+
+    private Bundle loadBundle(final Locale locale) {
+        // 言語のみのファイルを先に読み込み、国を含むファイルで上書きする
+        final Map<String, String> entries = new LinkedHashMap<>();
+        entries.putAll(this.readFile(locale.getLanguage()));
+        if (!locale.getCountry().isEmpty()) {
+            entries.putAll(this.readFile(locale.toString()));
+        }
+
+        if (entries.isEmpty()) {
+            return Bundle.empty();
+        }
+
+        final MessageTemplates.@Nullable Renderer[] templates = new MessageTemplates.Renderer[this.index.size()];
+        int count = 0;
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            final int id = this.index.id(entry.getKey());
+            final MessageTemplates.@Nullable AllowedTags allowed = this.allowedTags.get(entry.getKey());
+            if (id < 0 || allowed == null) {
+                this.logger.warn("不明な翻訳キーを無視しました: {} ({})", entry.getKey(), locale);
+                continue;
+            }
+
+            // 不正なテンプレートを送信前に検出
+            final MessageTemplates.Template template;
+            try {
+                template = MessageTemplates.parse(entry.getValue());
+            } catch (final ParsingException exception) {
+                this.logger.warn("不正な翻訳を無視しました: {} ({}): {}", entry.getKey(), locale, exception.getMessage());
+                continue;
+            }
+            final Set<String> unknownTags = allowed.unknown(template.dynamicTags());
+            if (!unknownTags.isEmpty()) {
+                this.logger.warn("不明なタグを含む翻訳を無視しました: {} ({}): {}", entry.getKey(), locale, unknownTags);
+                continue;
+            }
+
+            // 静的なテンプレートはここで描画した結果を使い回す
+            templates[id] = MessageTemplates.renderer(entry.getValue(), template, this.miniMessage);
+            count++;
+        }
+
+        this.logger.info("{} の翻訳ファイルを読み込みました ({} 件)", locale, count);
+        return new Bundle(templates);
+    }
+
+    private Map<String, String> readFile(final String localeName) {
+        // Minecraftのクライアントは小文字のロケールを使うため、小文字のファイル名も探す
+        for (final String fileName : List.of(localeName + ".properties", localeName.toLowerCase(Locale.ROOT) + ".properties")) {
+            final Path file = this.directory.resolve(fileName);
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                final Properties properties = new Properties();
+                properties.load(reader);
+                final Map<String, String> entries = new LinkedHashMap<>();
+                properties.stringPropertyNames().forEach(key -> entries.put(key, properties.getProperty(key)));
+                return entries;
+            } catch (final NoSuchFileException exception) {
+                continue;
+            } catch (final IOException exception) {
+                this.logger.warn("翻訳ファイルの読み込みに失敗しました: {}", file, exception);
+                return Map.of();
+            }
+        }
+        return Map.of();
+    }
+
+    // ロケールごとの翻訳 (翻訳ファイルが存在しないか読み込み中の場合は空)
+    private static final class Bundle {
+
+        private final MessageTemplates.@Nullable Renderer[] templates; // 翻訳キーのIDを添字とする
+        private volatile long lastAccess;
+
+        Bundle(final MessageTemplates.@Nullable Renderer[] templates) {
+            this.templates = templates;
+            this.lastAccess = System.nanoTime();
+        }
+
+        // 翻訳ファイルが存在しないか、読み込み中のロケールの翻訳
+        static Bundle empty() {
+            return new Bundle(new MessageTemplates.Renderer[0]);
+        }
+
+        boolean hasTranslations() {
+            return this.templates.length > 0;
+        }
+
+        MessageTemplates.@Nullable Renderer template(final int id) {
+            return id < this.templates.length ? this.templates[id] : null;
+        }
+
+        long lastAccess() {
+            return this.lastAccess;
+        }
+
+        void touch(final long now) {
+            this.lastAccess = now;
+        }
+    }
+}
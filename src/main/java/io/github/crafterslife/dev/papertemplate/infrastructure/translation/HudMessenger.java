@@ -0,0 +1,275 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.title.Title;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * アクションバー、タイトル、ボスバーなど、高頻度で更新されるHUDにメッセージを送信するためのクラス。
+ * <p>
+ * 翻訳可能なメッセージは同じティックの間ロケールごとに一度だけ描画し、同じロケールのプレイヤーには同じインスタンスを送信します。
+ * また、プレイヤーのHUDがすでに同じ内容を表示している場合は送信自体を省略し、変換と通信の両方を削減します。
+ * アクションバーは一定時間で消えるため、同じ内容でも {@value #ACTION_BAR_REFRESH_TICKS} ティックごとに送信し直します。
+ * <p>
+ * プレイヤーごとの表示状態を破棄するため、このクラスをイベントリスナーとして登録してください。
+ * メソッドはプレイヤーを所有するスレッド (通常はメインスレッド) から呼び出してください。
+ */
+@NullMarked
+public final class HudMessenger implements Listener {
+
+    // 同じ内容のアクションバーを送信し直す間隔 (クライアントでは約3秒で消える)
+    private static final int ACTION_BAR_REFRESH_TICKS = 40;
+
+    private final IntSupplier tickSource;
+    private final Map<UUID, HudState> states;
+    private final LongAdder sent;
+    private final LongAdder skipped;
+
+    // 現在のティックの描画結果 (renderLockで保護)
+    private final Lock renderLock;
+    private final Map<RenderKey, Component> renderedThisTick;
+    private int renderedTick;
+
+    private HudMessenger(final IntSupplier tickSource) {
+        this.tickSource = tickSource;
+        this.states = new ConcurrentHashMap<>();
+        this.sent = new LongAdder();
+        this.skipped = new LongAdder();
+        this.renderLock = new ReentrantLock();
+        this.renderedThisTick = new HashMap<>();
+        this.renderedTick = Integer.MIN_VALUE;
+    }
+
+    /**
+     * サーバーのティックを基準とする {@code HudMessenger} を生成する。
+     *
+     * @return 生成された {@code HudMessenger}
+     */
+    public static HudMessenger create() {
+        return new HudMessenger(Bukkit::getCurrentTick);
+    }
+
+    /**
+     * アクションバーにメッセージを表示する。
+     *
+     * @param player  プレイヤー
+     * @param message 表示するメッセージ
+     */
+    public void actionBar(final Player player, final Component message) {
+        final int tick = this.tickSource.getAsInt();
+        final Component rendered = this.render(message, player.locale(), tick);
+        final HudState state = this.state(player);
+
+        if (rendered.equals(state.actionBar) && tick - state.actionBarTick < ACTION_BAR_REFRESH_TICKS) {
+            this.skipped.increment();
+            return;
+        }
+
+        player.sendActionBar(rendered);
+        state.actionBar = rendered;
+        state.actionBarTick = tick;
+        this.sent.increment();
+    }
+
+    /**
+     * タイトルを表示する。
+     * <p>
+     * 同じタイトルが表示中 (フェードインと表示時間の間) であれば送信を省略します。
+     *
+     * @param player   プレイヤー
+     * @param title    タイトル
+     * @param subtitle サブタイトル
+     * @param times    表示時間
+     */
+    public void title(final Player player, final Component title, final Component subtitle, final Title.Times times) {
+        final int tick = this.tickSource.getAsInt();
+        final Locale locale = player.locale();
+        final Title rendered = Title.title(this.render(title, locale, tick), this.render(subtitle, locale, tick), times);
+        final HudState state = this.state(player);
+
+        if (rendered.equals(state.title) && tick < state.titleExpiresAt) {
+            this.skipped.increment();
+            return;
+        }
+
+        player.showTitle(rendered);
+        state.title = rendered;
+        state.titleExpiresAt = tick + (int) ((times.fadeIn().toMillis() + times.stay().toMillis()) / 50L);
+        this.sent.increment();
+    }
+
+    /**
+     * ボスバーを表示、または表示中のボスバーを更新する。
+     * <p>
+     * プレイヤーごとに1つのボスバーを保持し、名前や進捗が変わった場合のみクライアントに更新を送信します。
+     *
+     * @param player   プレイヤー
+     * @param name     ボスバーの名前
+     * @param progress 進捗 ({@code 0.0} から {@code 1.0})
+     * @param color    色
+     * @param overlay  区切りの表示
+     */
+    public void bossBar(final Player player, final Component name, final float progress, final BossBar.Color color, final BossBar.Overlay overlay) {
+        final Component rendered = this.render(name, player.locale(), this.tickSource.getAsInt());
+        final HudState state = this.state(player);
+
+        final @Nullable BossBar bossBar = state.bossBar;
+        if (bossBar == null) {
+            final BossBar created = BossBar.bossBar(rendered, progress, color, overlay);
+            player.showBossBar(created);
+            state.bossBar = created;
+            this.sent.increment();
+            return;
+        }
+
+        // 変わった項目のみ更新 (ボスバーは変更のたびに表示中のプレイヤーへ送信する)
+        boolean changed = false;
+        if (!bossBar.name().equals(rendered)) {
+            bossBar.name(rendered);
+            changed = true;
+        }
+        if (bossBar.progress() != progress) {
+            bossBar.progress(progress);
+            changed = true;
+        }
+        if (bossBar.color() != color) {
+            bossBar.color(color);
+            changed = true;
+        }
+        if (bossBar.overlay() != overlay) {
+            bossBar.overlay(overlay);
+            changed = true;
+        }
+
+        if (changed) {
+            this.sent.increment();
+        } else {
+            this.skipped.increment();
+        }
+    }
+
+    /**
+     * 表示中のボスバーを非表示にする。
+     *
+     * @param player プレイヤー
+     */
+    public void hideBossBar(final Player player) {
+        final @Nullable HudState state = this.states.get(player.getUniqueId());
+        final @Nullable BossBar bossBar = state == null ? null : state.bossBar;
+        if (state != null && bossBar != null) {
+            player.hideBossBar(bossBar);
+            state.bossBar = null;
+        }
+    }
+
+    /**
+     * 実際に送信した回数を取得する。
+     *
+     * @return 送信した回数
+     */
+    public long sentCount() {
+        return this.sent.sum();
+    }
+
+    /**
+     * 同じ内容が表示中のため送信を省略した回数を取得する。
+     *
+     * @return 省略した回数
+     */
+    public long skippedCount() {
+        return this.skipped.sum();
+    }
+
+    /**
+     * ログアウトしたプレイヤーの表示状態を破棄する。
+     *
+     * @param event プレイヤーのログアウトイベント
+     */
+    @EventHandler
+    public void onQuit(final PlayerQuitEvent event) {
+        this.states.remove(event.getPlayer().getUniqueId());
+    }
+
+    private HudState state(final Player player) {
+        return this.states.computeIfAbsent(player.getUniqueId(), ignored -> new HudState());
+    }
+
+    // 同じティックの間はロケールごとに一度だけ描画する (プレースホルダーの値がティックをまたいで古くならないようにティックごとに破棄)
+    private Component render(final Component message, final Locale locale, final int tick) {
+        final RenderKey renderKey = new RenderKey(message, locale);
+        this.renderLock.lock();
+        try {
+            if (this.renderedTick != tick) {
+                this.renderedThisTick.clear();
+                this.renderedTick = tick;
+            }
+            final @Nullable Component cached = this.renderedThisTick.get(renderKey);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            this.renderLock.unlock();
+        }
+
+        // 描画はロックの外で行う
+        final Component rendered = GlobalTranslator.render(message, locale);
+        this.renderLock.lock();
+        try {
+            if (this.renderedTick == tick) {
+                this.renderedThisTick.put(renderKey, rendered);
+            }
+        } finally {
+            this.renderLock.unlock();
+        }
+        return rendered;
+    }
+
+    // プレイヤーのHUDに最後に送信した内容
+    private static final class HudState {
+
+        private @Nullable Component actionBar;
+        private int actionBarTick;
+        private @Nullable Title title;
+        private int titleExpiresAt;
+        private @Nullable BossBar bossBar;
+    }
+
+    private record RenderKey(Component message, Locale locale) {
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.util.Locale;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 翻訳キーのIDを受け取って翻訳を行う {@link Translator}。
+ * <p>
+ * デコレーターを重ねると、それぞれが翻訳キーからIDを引き直すことになります。
+ * 最も外側のデコレーターで一度だけ {@link MessageIndex#id(String)} を呼び出し、内側にはこのインターフェースを通してIDを渡します。
+ */
+@NullMarked
+interface IndexedTranslator extends Translator {
+
+    /**
+     * 翻訳キーのIDが解決済みの翻訳可能コンポーネントを翻訳する。
+     *
+     * @param id        翻訳キーのID ({@link MessageIndex} に含まれない翻訳キーの場合は {@code -1})
+     * @param component 翻訳可能コンポーネント
+     * @param locale    ロケール
+     * @return 翻訳結果 (翻訳できない場合は {@code null})
+     */
+    @Nullable Component translate(int id, TranslatableComponent component, Locale locale);
+}
@@ -0,0 +1,100 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.bukkit.Bukkit;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 翻訳可能なメッセージをロケールごとに一度だけ描画して一斉送信するためのユーティリティークラス。
+ * <p>
+ * 翻訳可能コンポーネントをそのまま多数のプレイヤーに送信すると、{@link GlobalTranslator} が受信者ごとに描画を行います。
+ * このクラスは受信者をロケールごとにまとめ、ロケールごとに一度だけ描画したコンポーネントを全員に送信します。
+ * <p>
+ * グローバルなプレースホルダーは受信者によらず同じ値になるため、ロケールごとの描画にそのまま含まれます。
+ * 受信者ごとに値が変わるプレースホルダーを含むメッセージには使用しないでください。
+ */
+@NullMarked
+public final class LocalizedBroadcast {
+
+    private LocalizedBroadcast() {
+    }
+
+    /**
+     * オンラインのすべてのプレイヤーとコンソールにメッセージを送信する。
+     *
+     * @param message 送信するメッセージ
+     */
+    public static void broadcast(final Component message) {
+        final List<Audience> audiences = new ArrayList<>(Bukkit.getOnlinePlayers());
+        audiences.add(Bukkit.getConsoleSender());
+        broadcast(audiences, message);
+    }
+
+    /**
+     * 指定された受信者にメッセージを送信する。
+     * <p>
+     * ロケールを持たない受信者には描画前のメッセージを送信し、通常どおりプラットフォームに描画を任せます。
+     *
+     * @param audiences 受信者
+     * @param message   送信するメッセージ
+     */
+    public static void broadcast(final Iterable<? extends Audience> audiences, final Component message) {
+        final Map<Locale, Component> rendered = new HashMap<>();
+        for (final Audience audience : audiences) {
+            final @Nullable Locale locale = audience.get(Identity.LOCALE).orElse(null);
+            if (locale == null) {
+                audience.sendMessage(message);
+                continue;
+            }
+
+            // 同じロケールの受信者には最初に描画した結果を使い回す
+            final Component localized = rendered.computeIfAbsent(locale, key -> GlobalTranslator.render(message, key));
+            audience.sendMessage(localized);
+        }
+    }
+
+    /**
+     * 指定されたメッセージを受信者のロケールごとに描画する。
+     * <p>
+     * 送信以外の用途 (ボスバーやタイトルなど) で描画結果を使い回したい場合に使用します。
+     *
+     * @param audiences 受信者
+     * @param message   描画するメッセージ
+     * @return ロケールと描画されたメッセージのマップ (ロケールを持たない受信者は含まれない)
+     */
+    public static Map<Locale, Component> renderPerLocale(final Iterable<? extends Audience> audiences, final Component message) {
+        final Map<Locale, Component> rendered = new HashMap<>();
+        for (final Audience audience : audiences) {
+            audience.get(Identity.LOCALE).ifPresent(locale -> rendered.computeIfAbsent(locale, key -> GlobalTranslator.render(message, key)));
+        }
+        return rendered;
+    }
+}
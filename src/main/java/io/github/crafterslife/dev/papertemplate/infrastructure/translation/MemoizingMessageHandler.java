@@ -0,0 +1,90 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 引数のないメッセージメソッドの戻り値を記憶するための {@link InvocationHandler}。
+ * <p>
+ * 引数のないメッセージメソッドは毎回同じ翻訳可能コンポーネントを返すため、最初の呼び出しの結果を使い回し、
+ * メッセージプロキシによるキーの解決とコンポーネントの生成を省略します。
+ * それ以外のメソッドはそのまま委譲先に転送します。
+ */
+@NullMarked
+final class MemoizingMessageHandler implements InvocationHandler {
+
+    private final Object delegate;
+    private final Set<Method> memoizableMethods;
+    private final Map<Method, Object> results;
+
+    private MemoizingMessageHandler(final Object delegate, final Set<Method> memoizableMethods) {
+        this.delegate = delegate;
+        this.memoizableMethods = Set.copyOf(memoizableMethods);
+        this.results = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 指定されたメッセージプロキシを包み、戻り値を記憶するプロキシを生成する。
+     *
+     * @param <I>               メッセージインターフェースの型
+     * @param messageInterface  メッセージインターフェース
+     * @param delegate          委譲先のメッセージプロキシ
+     * @param memoizableMethods 戻り値を記憶してよいメソッド
+     * @return 戻り値を記憶するプロキシ
+     */
+    static <I> I wrap(final Class<I> messageInterface, final I delegate, final Set<Method> memoizableMethods) {
+        final MemoizingMessageHandler handler = new MemoizingMessageHandler(delegate, memoizableMethods);
+        final Object proxy = Proxy.newProxyInstance(messageInterface.getClassLoader(), new Class<?>[] {messageInterface}, handler);
+        return messageInterface.cast(proxy);
+    }
+
+    @Override
+    public @Nullable Object invoke(final Object proxy, final Method method, final @Nullable Object @Nullable [] args) throws Throwable {
+        if (this.memoizableMethods.contains(method)) {
+            final @Nullable Object cached = this.results.get(method);
+            if (cached != null) {
+                return cached;
+            }
+            final @Nullable Object result = this.invokeDelegate(method, args);
+            if (result != null) {
+                this.results.put(method, result);
+            }
+            return result;
+        }
+        return this.invokeDelegate(method, args);
+    }
+
+    private @Nullable Object invokeDelegate(final Method method, final @Nullable Object @Nullable [] args) throws Throwable {
+        try {
+            return method.invoke(this.delegate, args);
+        } catch (final InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+import java.util.TreeSet;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * メッセージインターフェースの翻訳キーに連番の整数IDを割り当てるためのクラス。
+ * <p>
+ * 登録時に {@link Key} が付与されたメソッドの翻訳キーを並べ、{@code 0} から始まる連続したIDを割り当てます。
+ * 翻訳キーやロケールごとのデータはIDを添字とした配列に格納できるため、描画時の検索は
+ * 翻訳キーからIDへの変換1回と配列の参照だけで済みます。
+ * <p>
+ * 翻訳可能コンポーネントにはIDを持たせる場所がないため、変換は描画のたびに最も外側の {@code Translator} で1回だけ行います。
+ * 変換には、翻訳キーのハッシュ値を添字とした平坦な配列を使います。コンポーネントの翻訳キーがアノテーションの定数と同じインスタンスであれば、
+ * 配列の参照1回と参照の比較だけで一致します。
+ */
+@NullMarked
+final class MessageIndex {
+
+    private final String[] keys;
+    private final @Nullable String[] table; // 翻訳キーのハッシュ値を添字とするオープンアドレス法のテーブル
+    private final int[] tableIds;
+    private final int mask;
+
+    private MessageIndex(final String[] keys) {
+        // 衝突を減らすため、テーブルの大きさは翻訳キーの数の2倍以上の2のべき乗にする
+        final int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 2 - 1) << 1;
+        this.keys = keys;
+        this.table = new String[capacity];
+        this.tableIds = new int[capacity];
+        this.mask = capacity - 1;
+        for (int id = 0; id < keys.length; id++) {
+            int slot = slot(keys[id]) & this.mask;
+            while (this.table[slot] != null) {
+                slot = (slot + 1) & this.mask;
+            }
+            this.table[slot] = keys[id];
+            this.tableIds[slot] = id;
+        }
+    }
+
+    /**
+     * 指定されたメッセージインターフェースの翻訳キーにIDを割り当てる。
+     * <p>
+     * IDは翻訳キーの辞書順に割り当てられるため、同じインターフェースからは常に同じIDが得られます。
+     *
+     * @param messageInterface メッセージインターフェース
+     * @return 生成された {@code MessageIndex}
+     */
+    static MessageIndex from(final Class<?> messageInterface) {
+        final Set<String> keys = new TreeSet<>();
+        for (final Method method : messageInterface.getMethods()) {
+            final @Nullable Key keyAnnotation = method.getAnnotation(Key.class);
+            if (keyAnnotation != null && !Modifier.isStatic(method.getModifiers())) {
+                keys.add(keyAnnotation.value());
+            }
+        }
+        return new MessageIndex(keys.toArray(String[]::new));
+    }
+
+    /**
+     * 翻訳キーのIDを取得する。
+     *
+     * @param key 翻訳キー
+     * @return ID (このインデックスに含まれない翻訳キーの場合は {@code -1})
+     */
+    int id(final String key) {
+        int slot = slot(key) & this.mask;
+        while (true) {
+            final @Nullable String candidate = this.table[slot];
+            if (candidate == null) {
+                return -1;
+            }
+            if (candidate == key || candidate.equals(key)) {
+                return this.tableIds[slot];
+            }
+            slot = (slot + 1) & this.mask;
+        }
+    }
+
+    /**
+     * IDに対応する翻訳キーを取得する。
+     *
+     * @param id ID
+     * @return 翻訳キー
+     * @throws IndexOutOfBoundsException IDが範囲外の場合
+     */
+    String key(final int id) {
+        return this.keys[id];
+    }
+
+    /**
+     * 割り当てたIDの数を取得する。
+     *
+     * @return IDの数 (すべてのIDは {@code 0} 以上この値未満)
+     */
+    int size() {
+        return this.keys.length;
+    }
+
+    // Stringのハッシュ値はキャッシュされるため、下位ビットに上位ビットを混ぜるだけで済む
+    private static int slot(final String key) {
+        final int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+}
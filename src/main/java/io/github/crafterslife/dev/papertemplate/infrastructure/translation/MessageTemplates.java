@@ -0,0 +1,315 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import io.github.namiuni.kotonoha.annotations.Message;
+import io.github.namiuni.kotonoha.translatable.message.extra.miniplaceholders.WithPlaceholders;
+import io.github.namiuni.kotonoha.translatable.message.policy.argument.tag.TagNameResolver;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.minimessage.translation.MiniMessageTranslator;
+import net.kyori.adventure.translation.Translator;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * メッセージインターフェースに定義されたMiniMessageテンプレートを {@link CustomMiniMessage} で起動時に検証し、事前に描画するためのユーティリティークラス。
+ * <p>
+ * すべてのテンプレートを一度パースし、以下の場合は送信時ではなく起動時に {@link TranslationException} をスローします。
+ * <ul>
+ *     <li>テンプレートのパースに失敗した場合</li>
+ *     <li>標準のタグ、カスタムタグ、メソッドの引数のタグ名 ({@link TranslationMessageFactory#tagNameResolver()} で解決) のいずれでもないタグが使われている場合
+ *         ({@link WithPlaceholders} が付与されたメッセージでは、MiniPlaceholdersの {@code <名前空間_名前>} の形式のタグもプレースホルダーとして許可されます)</li>
+ *     <li>ロケールを解釈できない場合</li>
+ * </ul>
+ * 引数もプレースホルダーも含まないテンプレートは、描画結果がロケールによってのみ決まるため、ここで描画した結果をそのまま使い回します。
+ * それ以外のテンプレートも {@link Renderer} として翻訳キーのIDごとに保持し、描画時に翻訳キーの文字列で検索しなくて済むようにします。
+ */
+@NullMarked
+final class MessageTemplates {
+
+    // MiniPlaceholdersのプレースホルダーのタグ名 (<名前空間_名前>、相対的なプレースホルダーは<rel_名前空間_名前>)
+    private static final Pattern PLACEHOLDER_NAME = Pattern.compile("[a-z0-9-]+_[a-z0-9_-]+");
+
+    private MessageTemplates() {
+    }
+
+    /**
+     * 指定されたメッセージインターフェースのテンプレートを検証し、静的なテンプレートを事前に描画する。
+     *
+     * @param messageInterface メッセージインターフェース
+     * @param index            翻訳キーのインデックス
+     * @return ロケールごとの、翻訳キーのIDを添字としたテンプレートの配列 (そのロケールのテンプレートがない要素は {@code null})
+     * @throws TranslationException 不正なテンプレートが含まれている場合
+     */
+    static Map<Locale, @Nullable Renderer[]> compile(
+            final Class<?> messageInterface,
+            final MessageIndex index
+    ) throws TranslationException {
+        final Map<Locale, @Nullable Renderer[]> compiled = new HashMap<>();
+        final List<String> problems = new ArrayList<>();
+        final Map<String, AllowedTags> allowedTags = allowedTags(messageInterface);
+
+        for (final Method method : messageInterface.getMethods()) {
+            final @Nullable Key keyAnnotation = method.getAnnotation(Key.class);
+            if (keyAnnotation == null) {
+                continue;
+            }
+
+            final String key = keyAnnotation.value();
+            final AllowedTags allowed = allowedTags.get(key);
+            for (final Message message : method.getAnnotationsByType(Message.class)) {
+                final @Nullable Locale locale = Translator.parseLocale(message.locale());
+                if (locale == null) {
+                    problems.add("%s: invalid locale '%s'".formatted(key, message.locale()));
+                    continue;
+                }
+
+                final Template template;
+                try {
+                    template = parse(message.content());
+                } catch (final ParsingException exception) {
+                    problems.add("%s (%s): %s".formatted(key, locale, exception.getMessage()));
+                    continue;
+                }
+
+                final Set<String> unknownTags = allowed.unknown(template.dynamicTags());
+                if (!unknownTags.isEmpty()) {
+                    problems.add("%s (%s): unknown tags %s".formatted(key, locale, unknownTags));
+                    continue;
+                }
+
+                compiled.computeIfAbsent(locale, ignored -> new Renderer[index.size()])[index.id(key)] =
+                        renderer(message.content(), template, CustomMiniMessage.CUSTOM_MINI_MESSAGE);
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            final String separator = System.lineSeparator() + "  ";
+            final String message = "Malformed message templates in " + messageInterface.getName() + ":" + separator + String.join(separator, problems);
+            throw new TranslationException(message);
+        }
+
+        return compiled;
+    }
+
+    /**
+     * メッセージインターフェースの翻訳キーごとに、テンプレートで使用できるタグを取得する。
+     *
+     * @param messageInterface メッセージインターフェース
+     * @return 翻訳キーごとの使用できるタグ
+     */
+    static Map<String, AllowedTags> allowedTags(final Class<?> messageInterface) {
+        final Map<String, AllowedTags> allowedTags = new HashMap<>();
+        final TagNameResolver nameResolver = TranslationMessageFactory.tagNameResolver();
+
+        for (final Method method : messageInterface.getMethods()) {
+            final @Nullable Key keyAnnotation = method.getAnnotation(Key.class);
+            if (keyAnnotation == null) {
+                continue;
+            }
+
+            final Set<String> argumentNames = new HashSet<>();
+            for (final Parameter parameter : method.getParameters()) {
+                // 描画時と同じく、アノテーションで指定された名前を引数名より優先する
+                argumentNames.add(nameResolver.resolve(parameter).toLowerCase(Locale.ROOT));
+            }
+            final boolean placeholders = method.isAnnotationPresent(WithPlaceholders.class)
+                    || messageInterface.isAnnotationPresent(WithPlaceholders.class);
+            allowedTags.put(keyAnnotation.value(), new AllowedTags(Set.copyOf(argumentNames), placeholders));
+        }
+
+        return Map.copyOf(allowedTags);
+    }
+
+    /**
+     * テンプレートを {@link CustomMiniMessage} でパースし、標準のタグとカスタムタグで解決できなかったタグ名を記録する。
+     *
+     * @param template MiniMessage形式のテンプレート
+     * @return パースしたテンプレート
+     * @throws ParsingException テンプレートのパースに失敗した場合
+     */
+    static Template parse(final String template) throws ParsingException {
+        final TagRecorder recorder = new TagRecorder();
+        final Component component = CustomMiniMessage.deserialize(template, recorder);
+        return new Template(component, Set.copyOf(recorder.names()));
+    }
+
+    /**
+     * パースしたテンプレートから、翻訳可能コンポーネントを描画する {@link Renderer} を生成する。
+     * <p>
+     * 静的なテンプレートは事前に描画した結果を使い回し ({@link #render} を参照)、
+     * それ以外は描画のたびにテンプレートの文字列を翻訳可能コンポーネントの引数とともにパースします。
+     *
+     * @param source      MiniMessage形式のテンプレート
+     * @param template    {@link #parse} でパースしたテンプレート
+     * @param miniMessage 静的でないテンプレートの描画に使用する {@code MiniMessage}
+     * @return テンプレートを描画する {@code Renderer}
+     */
+    static Renderer renderer(final String source, final Template template, final MiniMessage miniMessage) {
+        if (template.isStatic()) {
+            final Component compiled = template.component();
+            return (component, locale) -> render(compiled, component);
+        }
+        final SourceTranslator translator = new SourceTranslator(source, miniMessage);
+        return translator::translate;
+    }
+
+    /**
+     * 事前に描画したテンプレートに、翻訳可能コンポーネントのスタイルと子を適用する。
+     * <p>
+     * スタイルは描画結果の設定されていないスタイルとして引き継ぎ、子は描画結果の子の後ろに付け加えます。
+     * 子やスタイルを持つ翻訳可能コンポーネントも、MiniMessageのパースを経由せずに描画できます。
+     *
+     * @param compiled  事前に描画したテンプレート
+     * @param component 翻訳可能コンポーネント
+     * @return 描画結果
+     */
+    static Component render(final Component compiled, final TranslatableComponent component) {
+        Component rendered = component.style().isEmpty() ? compiled : compiled.applyFallbackStyle(component.style());
+        if (!component.children().isEmpty()) {
+            final List<Component> children = new ArrayList<>(rendered.children());
+            children.addAll(component.children());
+            rendered = rendered.children(children);
+        }
+        return rendered;
+    }
+
+    /**
+     * 1つの翻訳キーとロケールのテンプレートを描画する関数。
+     */
+    @FunctionalInterface
+    interface Renderer {
+
+        /**
+         * 翻訳可能コンポーネントを描画する。
+         *
+         * @param component 翻訳可能コンポーネント
+         * @param locale    ロケール
+         * @return 描画結果 (描画できない場合は {@code null})
+         */
+        @Nullable Component render(TranslatableComponent component, Locale locale);
+    }
+
+    /**
+     * パースしたテンプレート。
+     *
+     * @param component   パースした結果 (動的なタグは描画されていない)
+     * @param dynamicTags 標準のタグとカスタムタグで解決できなかったタグ名 (小文字)
+     */
+    record Template(Component component, Set<String> dynamicTags) {
+
+        /**
+         * 動的なタグを含まず、描画結果がロケールによってのみ決まるかどうかを返す。
+         *
+         * @return 静的なテンプレートの場合は {@code true}
+         */
+        boolean isStatic() {
+            return this.dynamicTags.isEmpty();
+        }
+    }
+
+    /**
+     * 1つの翻訳キーのテンプレートで使用できるタグ。
+     *
+     * @param argumentNames メソッドの引数のタグ名 (小文字)
+     * @param placeholders  プレースホルダーの形式のタグを許可するかどうか
+     */
+    record AllowedTags(Set<String> argumentNames, boolean placeholders) {
+
+        /**
+         * 指定されたタグ名のうち、使用できないものを取得する。
+         * <p>
+         * 引数のタグ名でないタグは、プレースホルダーを許可する場合でも、プレースホルダーのタグ名の形式 ({@code <名前空間_名前>}) でなければ使用できません。
+         *
+         * @param tags テンプレートの動的なタグ名
+         * @return 使用できないタグ名 (すべて使用できる場合は空)
+         */
+        Set<String> unknown(final Set<String> tags) {
+            final Set<String> unknownTags = new HashSet<>(tags);
+            unknownTags.removeAll(this.argumentNames);
+            if (this.placeholders) {
+                unknownTags.removeIf(tag -> PLACEHOLDER_NAME.matcher(tag).matches());
+            }
+            return unknownTags;
+        }
+    }
+
+    // 翻訳キーやロケールによらず1つのテンプレートを返すTranslator (引数のタグの解決はMiniMessageTranslatorに任せる)
+    private static final class SourceTranslator extends MiniMessageTranslator {
+
+        private static final net.kyori.adventure.key.Key NAME = net.kyori.adventure.key.Key.key("papertemplate", "template");
+
+        private final String source;
+
+        SourceTranslator(final String source, final MiniMessage miniMessage) {
+            super(miniMessage);
+            this.source = source;
+        }
+
+        @Override
+        public net.kyori.adventure.key.Key name() {
+            return NAME;
+        }
+
+        @Override
+        protected String getMiniMessageString(final String key, final Locale locale) {
+            return this.source;
+        }
+    }
+
+    // 登録済みのタグで解決できなかったタグ名を記録する (常に未解決として扱う)
+    private static final class TagRecorder implements TagResolver {
+
+        private final Set<String> names = new HashSet<>();
+
+        @Override
+        public @Nullable Tag resolve(final String name, final ArgumentQueue arguments, final Context ctx) {
+            return null;
+        }
+
+        @Override
+        public boolean has(final String name) {
+            this.names.add(name.toLowerCase(Locale.ROOT));
+            return false;
+        }
+
+        Set<String> names() {
+            return this.names;
+        }
+    }
+}
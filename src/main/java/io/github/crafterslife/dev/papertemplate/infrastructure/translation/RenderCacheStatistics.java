@@ -0,0 +1,66 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * 翻訳結果のキャッシュの統計。
+ *
+ * @param hits              プレースホルダーを含まないメッセージで、キャッシュから結果を返した回数
+ * @param misses            プレースホルダーを含まないメッセージで、描画を行った回数
+ * @param size              プレースホルダーを含まないメッセージの、現在キャッシュされているエントリーの数
+ * @param placeholderHits   プレースホルダーを含むメッセージで、キャッシュから結果を返した回数
+ * @param placeholderMisses プレースホルダーを含むメッセージで、描画を行った回数 (保持期間切れを含む)
+ * @param placeholderSize   プレースホルダーを含むメッセージの、現在キャッシュされているエントリーの数
+ */
+@NullMarked
+public record RenderCacheStatistics(
+        long hits,
+        long misses,
+        int size,
+        long placeholderHits,
+        long placeholderMisses,
+        int placeholderSize
+) {
+
+    /**
+     * プレースホルダーを含まないメッセージのキャッシュのヒット率を取得する。
+     *
+     * @return {@code 0.0} から {@code 1.0} までのヒット率 (一度も参照されていない場合は {@code 0.0})
+     */
+    public double hitRate() {
+        return rate(this.hits, this.misses);
+    }
+
+    /**
+     * プレースホルダーを含むメッセージのキャッシュのヒット率を取得する。
+     *
+     * @return {@code 0.0} から {@code 1.0} までのヒット率 (一度も参照されていない場合は {@code 0.0})
+     */
+    public double placeholderHitRate() {
+        return rate(this.placeholderHits, this.placeholderMisses);
+    }
+
+    private static double rate(final long hitCount, final long missCount) {
+        final long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import io.github.namiuni.kotonoha.translatable.message.extra.miniplaceholders.PlaceholderScope;
+import io.github.namiuni.kotonoha.translatable.message.extra.miniplaceholders.WithPlaceholders;
+import io.papermc.paper.plugin.bootstrap.BootstrapContext;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.bukkit.Bukkit;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * メッセージインターフェースのプロキシと、その翻訳結果のキャッシュを保持するためのクラス。
+ * <p>
+ * プレースホルダーを含まないメッセージは、描画結果がメッセージ、ロケール、引数の組ごとにキャッシュされます。
+ * 引数もプレースホルダーも含まないメッセージは、プロキシの戻り値自体も記憶されるため、
+ * 同じメッセージを繰り返し送信してもほとんど新しいオブジェクトを生成しません。
+ * プレースホルダーを含むメッセージは、{@link #placeholderCacheTicks} で指定したティック数の間だけ描画結果がキャッシュされます。
+ * <p>
+ * データディレクトリの {@code translations} ディレクトリに翻訳ファイルを配置すると、翻訳の上書きや追加のロケールを読み込みます。
+ * デフォルトのロケール以外の翻訳ファイルは、そのロケールが初めて必要になったときに別のスレッドで読み込まれ、読み込みが終わるまでは組み込みの翻訳が使用されます。
+ *
+ * @param <I> メッセージインターフェースの型
+ */
+@NullMarked
+public final class TranslationHolder<I> {
+
+    // 描画結果をキャッシュするエントリーの最大数
+    private static final int RENDER_CACHE_CAPACITY = 1024;
+
+    private final I messages;
+    private final ExternalTranslations externalTranslations;
+    private final CachingTranslator translator;
+
+    private TranslationHolder(final I messages, final ExternalTranslations externalTranslations, final CachingTranslator translator) {
+        this.messages = messages;
+        this.externalTranslations = externalTranslations;
+        this.translator = translator;
+    }
+
+    /**
+     * 翻訳を読み込んで {@link GlobalTranslator} に登録し、{@code TranslationHolder} を生成する。
+     *
+     * @param <I>              メッセージインターフェースの型
+     * @param messageInterface メッセージインターフェース
+     * @param context          プラグインの起動時に提供されるコンテキスト
+     * @param loadExecutor     翻訳ファイルを読み込む実行器 (プラグインのスケジューラと共有する)
+     * @return {@code TranslationHolder} の新しいインスタンス
+     */
+    public static <I> TranslationHolder<I> from(final Class<I> messageInterface, final BootstrapContext context, final Executor loadExecutor) {
+
+        // 翻訳キーに連番のIDを割り当て、描画結果をキャッシュするTranslatorを登録
+        final MessageIndex index = MessageIndex.from(messageInterface);
+        final CompiledTemplateTranslator store = TranslatorFactory.from(messageInterface, index);
+        final ExternalTranslations externalTranslations = new ExternalTranslations(
+                store,
+                index,
+                MessageTemplates.allowedTags(messageInterface),
+                context.getDataDirectory().resolve(ExternalTranslations.DIRECTORY_NAME),
+                TranslatorFactory.DEFAULT_LOCALE,
+                CustomMiniMessage.CUSTOM_MINI_MESSAGE,
+                loadExecutor,
+                context.getLogger()
+        );
+        final CachingTranslator translator = new CachingTranslator(
+                externalTranslations,
+                index,
+                cachePolicies(messageInterface),
+                Bukkit::getCurrentTick,
+                RENDER_CACHE_CAPACITY
+        );
+        // 追加のロケールを読み込む前に描画された結果は組み込みの翻訳なので破棄する
+        externalTranslations.onLoad(translator::invalidate);
+        GlobalTranslator.translator().addSource(translator);
+        context.getLogger().info("翻訳を読み込みました。");
+
+        // 引数もプレースホルダーも含まないメッセージがあれば、その戻り値を記憶するプロキシで包む
+        final I proxy = TranslationMessageFactory.createProxy(messageInterface);
+        final Set<Method> memoizableMethods = memoizableMethods(messageInterface);
+        final I messages = memoizableMethods.isEmpty()
+                ? proxy
+                : MemoizingMessageHandler.wrap(messageInterface, proxy, memoizableMethods);
+
+        return new TranslationHolder<>(messages, externalTranslations, translator);
+    }
+
+    /**
+     * メッセージインターフェースのインスタンスを取得する。
+     *
+     * @return メッセージインターフェースのインスタンス
+     */
+    public I messages() {
+        return this.messages;
+    }
+
+    /**
+     * 翻訳ファイルを再読み込みする。
+     * <p>
+     * デフォルトのロケールの翻訳ファイルをすぐに読み込み直し、その他のロケールは次に必要になったときに読み込みます。
+     * 古い翻訳の描画結果はキャッシュから破棄されます。
+     */
+    public void reload() {
+        this.externalTranslations.reload();
+        this.translator.invalidate();
+    }
+
+    /**
+     * キャッシュされたすべての描画結果を破棄する。
+     * <p>
+     * 翻訳を再読み込みした後に呼び出してください。
+     */
+    public void invalidateCache() {
+        this.translator.invalidate();
+    }
+
+    /**
+     * プレースホルダーを含むメッセージの描画結果を保持するティック数を設定する。
+     * <p>
+     * 保持期間の間、グローバルなプレースホルダーのみを含むメッセージはロケールごとに、
+     * プレイヤーに依存するプレースホルダーを含むメッセージはプレイヤーごとに一度だけ描画されます。
+     * {@code 1} を指定すると同じティックの間だけ使い回し、{@code 0} 以下を指定するとキャッシュしません。
+     *
+     * @param globalTicks   グローバルなプレースホルダーのみを含むメッセージの保持期間
+     * @param audienceTicks プレイヤーに依存するプレースホルダーを含むメッセージの保持期間
+     */
+    public void placeholderCacheTicks(final int globalTicks, final int audienceTicks) {
+        this.translator.placeholderTicks(globalTicks, audienceTicks);
+    }
+
+    /**
+     * 描画結果のキャッシュの統計を取得する。
+     *
+     * @return キャッシュの統計
+     */
+    public RenderCacheStatistics cacheStatistics() {
+        return this.translator.statistics();
+    }
+
+    private static Map<String, CachingTranslator.Policy> cachePolicies(final Class<?> messageInterface) {
+        final Map<String, CachingTranslator.Policy> policies = new HashMap<>();
+        for (final Method method : messageInterface.getMethods()) {
+            final CachingTranslator.Policy policy = cachePolicy(messageInterface, method);
+            if (policy != CachingTranslator.Policy.NONE) {
+                policies.put(method.getAnnotation(Key.class).value(), policy);
+            }
+        }
+        return policies;
+    }
+
+    private static Set<Method> memoizableMethods(final Class<?> messageInterface) {
+        final Set<Method> methods = new HashSet<>();
+        for (final Method method : messageInterface.getMethods()) {
+            // プレースホルダーを含むメッセージはプロキシの呼び出しごとに異なる結果になりうるため記憶しない
+            if (cachePolicy(messageInterface, method) == CachingTranslator.Policy.STATIC && method.getParameterCount() == 0) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static CachingTranslator.Policy cachePolicy(final Class<?> messageInterface, final Method method) {
+        final boolean message = !Modifier.isStatic(method.getModifiers())
+                && !method.isDefault()
+                && method.getReturnType() == Component.class
+                && method.isAnnotationPresent(Key.class);
+        if (!message) {
+            return CachingTranslator.Policy.NONE;
+        }
+
+        final @Nullable WithPlaceholders placeholders = method.isAnnotationPresent(WithPlaceholders.class)
+                ? method.getAnnotation(WithPlaceholders.class)
+                : messageInterface.getAnnotation(WithPlaceholders.class);
+        if (placeholders == null) {
+            return CachingTranslator.Policy.STATIC;
+        }
+
+        // グローバル以外のスコープを含む場合はプレイヤーに依存するとみなす
+        final List<PlaceholderScope> scopes = List.of(placeholders.value());
+        return scopes.stream().allMatch(scope -> scope == PlaceholderScope.GLOBAL)
+                ? CachingTranslator.Policy.GLOBAL_PLACEHOLDERS
+                : CachingTranslator.Policy.AUDIENCE_PLACEHOLDERS;
+    }
+}
@@ -27,8 +27,7 @@ import io.github.namiuni.kotonoha.translatable.message.policy.argument.Translati
 import io.github.namiuni.kotonoha.translatable.message.policy.argument.tag.TagNameResolver;
 import io.github.namiuni.kotonoha.translatable.message.utility.TranslationArgumentAdapter;
 import io.papermc.paper.plugin.bootstrap.BootstrapContext;
-import net.kyori.adventure.translation.GlobalTranslator;
-import net.kyori.adventure.translation.Translator;
+import java.util.concurrent.Executor;
 import org.jspecify.annotations.NullMarked;
 
 /**
@@ -43,18 +42,27 @@ public final class TranslationMessageFactory {
 
     /**
      * メッセージインターフェースのプロキシインスタンスを生成して返す。
+     * <p>
+     * 描画結果のキャッシュの統計や無効化が必要な場合は {@link TranslationHolder#from} を使用してください。
      *
      * @param <I>              メッセージインターフェースの型
      * @param messageInterface メッセージインターフェース
      * @param context          プラグインの起動時に提供されるコンテキスト
+     * @param loadExecutor     翻訳ファイルを読み込む実行器
      * @return メッセージインターフェースのプロキシインスタンス
      */
-    public static <I> I from(final Class<I> messageInterface, final BootstrapContext context) {
-
-        final Translator translator = TranslatorFactory.from(messageInterface);
-        GlobalTranslator.translator().addSource(translator);
-        context.getLogger().info("翻訳を読み込みました。");
+    public static <I> I from(final Class<I> messageInterface, final BootstrapContext context, final Executor loadExecutor) {
+        return TranslationHolder.from(messageInterface, context, loadExecutor).messages();
+    }
 
+    /**
+     * 翻訳の登録を行わずに、メッセージインターフェースのプロキシインスタンスを生成する。
+     *
+     * @param <I>              メッセージインターフェースの型
+     * @param messageInterface メッセージインターフェース
+     * @return メッセージインターフェースのプロキシインスタンス
+     */
+    static <I> I createProxy(final Class<I> messageInterface) {
         final InvocationConfiguration invocationConfiguration = FormatTypes.MINI_MESSAGE
                 .withArgumentPolicy(argumentPolicy());
 
@@ -65,9 +73,18 @@ public final class TranslationMessageFactory {
         // スタンダードな引数適合
         final TranslationArgumentAdapter argumentAdapter = TranslationArgumentAdapter.standard();
 
-        // 引数名か、またはアノテーションからタグ名を解決
-        final TagNameResolver nameResolver = TagNameResolver.annotationOrParameterNameResolver();
+        return MiniPlaceholdersArgumentPolicy.of(argumentAdapter, tagNameResolver());
+    }
 
-        return MiniPlaceholdersArgumentPolicy.of(argumentAdapter, nameResolver);
+    /**
+     * メソッドの引数からMiniMessageのタグ名を解決する {@link TagNameResolver} を取得する。
+     * <p>
+     * テンプレートの検証 ({@link MessageTemplates}) と描画で同じタグ名を使うため、両方からこのメソッドを使用します。
+     *
+     * @return タグ名のリゾルバー
+     */
+    static TagNameResolver tagNameResolver() {
+        // 引数名か、またはアノテーションからタグ名を解決
+        return TagNameResolver.annotationOrParameterNameResolver();
     }
 }
@@ -21,10 +21,12 @@ package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
 
 import io.github.namiuni.kotonoha.translator.KotonohaTranslationStore;
 import java.util.Locale;
+import java.util.Map;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.translation.Translator;
 import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
 
 /**
  * メッセージインターフェースから {@link Translator} を生成するためのファクトリークラス。
@@ -32,17 +34,25 @@ import org.jspecify.annotations.NullMarked;
 @NullMarked
 final class TranslatorFactory {
 
+    // デフォルトのロケール
+    static final Locale DEFAULT_LOCALE = Locale.JAPAN;
+
     private TranslatorFactory() {
     }
 
     /**
      * 指定されたメッセージインターフェースから {@link Translator} を生成する。
+     * <p>
+     * 登録の前にすべてのテンプレートを検証し、引数もプレースホルダーも含まないテンプレートは事前に描画します。
+     * メッセージインターフェースの翻訳キーは、翻訳キーのIDで検索したテンプレートで描画されます。
      *
      * @param messageInterface メッセージインターフェース
-     * @return {@code Translator}
+     * @param index            翻訳キーのインデックス
+     * @return 翻訳キーのIDを受け取る {@code Translator}
      * @throws IllegalArgumentException メッセージインターフェースに {@link TranslationStoreName} アノテーションが付与されていない場合
+     * @throws TranslationException     不正なテンプレートが含まれている場合
      */
-    static Translator from(final Class<?> messageInterface) {
+    static CompiledTemplateTranslator from(final Class<?> messageInterface, final MessageIndex index) {
 
         // TranslationStoreを生成
         final Key storeName = getName(messageInterface);
@@ -50,12 +60,15 @@ final class TranslatorFactory {
         final KotonohaTranslationStore<String> translator = KotonohaTranslationStore.miniMessage(storeName, miniMessage);
 
         // デフォルト言語を日本語に設定
-        translator.defaultLocale(Locale.JAPAN);
+        translator.defaultLocale(DEFAULT_LOCALE);
+
+        // テンプレートの検証と事前の描画 (不正なテンプレートがあればここで失敗する)
+        final Map<Locale, MessageTemplates.@Nullable Renderer[]> templates = MessageTemplates.compile(messageInterface, index);
 
         // インターフェース内のすべてのメソッドから翻訳を登録
         translator.registerInterface(messageInterface);
 
-        return translator;
+        return new CompiledTemplateTranslator(translator, index, templates, DEFAULT_LOCALE);
     }
 
     @SuppressWarnings("PatternValidation")
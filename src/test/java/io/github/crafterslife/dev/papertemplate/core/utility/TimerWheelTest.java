@@ -0,0 +1,185 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.core.utility;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@NullMarked
+final class TimerWheelTest {
+
+    private @Nullable Runnable tick;
+    private TimerWheel wheel = TimerWheel.create(this::startTimer, logger());
+    private long currentTick;
+
+    @BeforeEach
+    void setUp() {
+        this.tick = null;
+        this.currentTick = 0L;
+        this.wheel = TimerWheel.create(this::startTimer, logger());
+    }
+
+    @Test
+    void repeatingTaskJoiningLaterGroupRunsAtItsOwnStart() {
+        final List<Long> first = new ArrayList<>();
+        final List<Long> second = new ArrayList<>();
+
+        // 同じ間隔と位相で、後から追加したタスクの方が先に開始する
+        this.wheel.scheduleRepeating(() -> first.add(this.currentTick), 100L, 20L);
+        this.wheel.scheduleRepeating(() -> second.add(this.currentTick), 20L, 20L);
+        this.advance(120L);
+
+        assertEquals(List.of(100L, 120L), first);
+        assertEquals(List.of(20L, 40L, 60L, 80L, 100L, 120L), second);
+    }
+
+    @Test
+    void repeatingTaskJoiningEarlierGroupWaitsForItsStart() {
+        final List<Long> first = new ArrayList<>();
+        final List<Long> second = new ArrayList<>();
+
+        this.wheel.scheduleRepeating(() -> first.add(this.currentTick), 20L, 20L);
+        this.wheel.scheduleRepeating(() -> second.add(this.currentTick), 60L, 20L);
+        this.advance(80L);
+
+        assertEquals(List.of(20L, 40L, 60L, 80L), first);
+        assertEquals(List.of(60L, 80L), second);
+    }
+
+    @Test
+    void oneShotIsNotCancelledAfterRunning() {
+        final List<Long> runs = new ArrayList<>();
+
+        final PluginTask task = this.wheel.schedule(() -> runs.add(this.currentTick), 5L);
+        this.advance(10L);
+        task.cancel();
+
+        assertEquals(List.of(5L), runs);
+        assertFalse(task.isCancelled());
+    }
+
+    @Test
+    void cancelledOneShotDoesNotRun() {
+        final List<Long> runs = new ArrayList<>();
+
+        final PluginTask task = this.wheel.schedule(() -> runs.add(this.currentTick), 5L);
+        this.advance(2L);
+        task.cancel();
+        this.advance(8L);
+
+        assertEquals(List.of(), runs);
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    void oneShotCancelledByTaskInSameTickDoesNotRun() {
+        final List<String> runs = new ArrayList<>();
+        final PluginTask[] tasks = new PluginTask[2];
+
+        // 同じティックに実行される2つのタスクが互いをキャンセルする (先に実行された方だけが実行される)
+        tasks[0] = this.wheel.schedule(() -> {
+            runs.add("first");
+            tasks[1].cancel();
+        }, 5L);
+        tasks[1] = this.wheel.schedule(() -> {
+            runs.add("second");
+            tasks[0].cancel();
+        }, 5L);
+        this.advance(5L);
+
+        assertEquals(1, runs.size());
+        final int ran = runs.get(0).equals("first") ? 0 : 1;
+        assertFalse(tasks[ran].isCancelled());
+        assertTrue(tasks[1 - ran].isCancelled());
+    }
+
+    @Test
+    void closeCancelsOutstandingTasks() {
+        final List<Long> runs = new ArrayList<>();
+
+        final PluginTask done = this.wheel.schedule(() -> runs.add(this.currentTick), 1L);
+        final PluginTask oneShot = this.wheel.schedule(() -> runs.add(this.currentTick), 10L);
+        final PluginTask repeating = this.wheel.scheduleRepeating(() -> runs.add(this.currentTick), 1L, 2L);
+        this.advance(2L);
+        this.wheel.close();
+        this.advance(20L);
+
+        assertEquals(List.of(1L, 1L), runs);
+        assertFalse(done.isCancelled());
+        assertTrue(oneShot.isCancelled());
+        assertTrue(repeating.isCancelled());
+    }
+
+    // タスクがない間はタイマーが止まるため、その間もティックの番号だけは進める
+    private void advance(final long ticks) {
+        for (long i = 0L; i < ticks; i++) {
+            this.currentTick++;
+            final @Nullable Runnable current = this.tick;
+            if (current != null) {
+                current.run();
+            }
+        }
+    }
+
+    private PluginTask startTimer(final Runnable timer) {
+        this.tick = timer;
+        return new PluginTask() {
+            private boolean cancelled;
+
+            @Override
+            public void cancel() {
+                this.cancelled = true;
+                TimerWheelTest.this.tick = null;
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return this.cancelled;
+            }
+        };
+    }
+
+    private static ComponentLogger logger() {
+        return (ComponentLogger) Proxy.newProxyInstance(
+                ComponentLogger.class.getClassLoader(),
+                new Class<?>[] {ComponentLogger.class},
+                (proxy, method, arguments) -> {
+                    if (arguments != null) {
+                        for (final Object argument : arguments) {
+                            if (argument instanceof final Throwable throwable) {
+                                throw new AssertionError("タスクが例外をスローしました。", throwable);
+                            }
+                        }
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.FALSE : null;
+                }
+        );
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * PaperTemplate
+ *
+ * Copyright (c) 2025. Namiu (うにたろう)
+ *                     Contributors []
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package io.github.crafterslife.dev.papertemplate.infrastructure.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.namiuni.kotonoha.annotations.Key;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.TranslationArgument;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@NullMarked
+final class CachingTranslatorTest {
+
+    private static final String STATIC_KEY = "test.static";
+    private static final String AUDIENCE_KEY = "test.audience";
+
+    private final MessageIndex index = MessageIndex.from(TestMessages.class);
+    private final CountingTranslator delegate = new CountingTranslator();
+    private CachingTranslator translator = this.create(1024);
+    private int currentTick;
+
+    @BeforeEach
+    void setUp() {
+        this.currentTick = 0;
+        this.translator = this.create(1024);
+    }
+
+    @Test
+    void equalArgumentsHitCache() {
+        // 別々に生成した、引数が等しい翻訳可能コンポーネント
+        final Component first = this.translator.translate(Component.translatable(STATIC_KEY, Component.text("Alice")), Locale.JAPAN);
+        final Component second = this.translator.translate(Component.translatable(STATIC_KEY, Component.text("Alice")), Locale.JAPAN);
+
+        assertSame(first, second);
+        assertEquals(1, this.delegate.renders);
+        assertEquals(1L, this.translator.statistics().hits());
+        assertEquals(1L, this.translator.statistics().misses());
+    }
+
+    @Test
+    void differentArgumentsOrLocalesMiss() {
+        final Component alice = this.translator.translate(Component.translatable(STATIC_KEY, Component.text("Alice")), Locale.JAPAN);
+        final Component bob = this.translator.translate(Component.translatable(STATIC_KEY, Component.text("Bob")), Locale.JAPAN);
+        final Component english = this.translator.translate(Component.translatable(STATIC_KEY, Component.text("Alice")), Locale.US);
+
+        assertNotSame(alice, bob);
+        assertNotSame(alice, english);
+        assertEquals(3, this.delegate.renders);
+    }
+
+    @Test
+    void audienceScopedRenderNeverCrossesAudiences() {
+        final TranslatableComponent forAlice = Component.translatable(AUDIENCE_KEY, Component.text("Alice"));
+        final TranslatableComponent forBob = Component.translatable(AUDIENCE_KEY, Component.text("Bob"));
+
+        // 同じティックの間に交互に描画しても、それぞれのプレイヤーの結果だけが返される
+        final Component alice = this.translator.translate(forAlice, Locale.JAPAN);
+        final Component bob = this.translator.translate(forBob, Locale.JAPAN);
+        final Component aliceAgain = this.translator.translate(forAlice, Locale.JAPAN);
+        final Component bobAgain = this.translator.translate(forBob, Locale.JAPAN);
+
+        assertEquals(CountingTranslator.expected(forAlice), alice);
+        assertEquals(CountingTranslator.expected(forBob), bob);
+        assertSame(alice, aliceAgain);
+        assertSame(bob, bobAgain);
+        assertEquals(2, this.delegate.renders);
+    }
+
+    @Test
+    void audienceScopedRenderExpiresAfterTicks() {
+        final TranslatableComponent component = Component.translatable(AUDIENCE_KEY, Component.text("Alice"));
+        this.translator.placeholderTicks(1, 2);
+
+        final Component first = this.translator.translate(component, Locale.JAPAN);
+        this.currentTick = 1;
+        final Component sameWindow = this.translator.translate(component, Locale.JAPAN);
+        this.currentTick = 2;
+        final Component expired = this.translator.translate(component, Locale.JAPAN);
+
+        assertSame(first, sameWindow);
+        assertNotSame(first, expired);
+        assertEquals(2, this.delegate.renders);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondCapacity() {
+        this.translator = this.create(4);
+        final TranslatableComponent kept = Component.translatable(STATIC_KEY, Component.text("kept"));
+        final Component keptRender = this.translator.translate(kept, Locale.JAPAN);
+
+        // 毎ティック使われるエントリーは、使われなくなったエントリーより後まで残る
+        for (int i = 0; i < 8; i++) {
+            this.currentTick++;
+            this.translator.translate(kept, Locale.JAPAN);
+            this.translator.translate(Component.translatable(STATIC_KEY, Component.text(i)), Locale.JAPAN);
+        }
+
+        assertSame(keptRender, this.translator.translate(kept, Locale.JAPAN));
+        assertTrue(this.translator.statistics().size() <= 4);
+    }
+
+    private CachingTranslator create(final int capacity) {
+        return new CachingTranslator(
+                this.delegate,
+                this.index,
+                Map.of(STATIC_KEY, CachingTranslator.Policy.STATIC, AUDIENCE_KEY, CachingTranslator.Policy.AUDIENCE_PLACEHOLDERS),
+                () -> this.currentTick,
+                capacity
+        );
+    }
+
+    private interface TestMessages {
+
+        @Key(STATIC_KEY)
+        Component greeting(Component name);
+
+        @Key(AUDIENCE_KEY)
+        Component status(Component player);
+    }
+
+    // 描画のたびに新しいコンポーネントを返し、描画の回数を数える
+    private static final class CountingTranslator implements IndexedTranslator {
+
+        private int renders;
+
+        static Component expected(final TranslatableComponent component) {
+            return Component.text(component.key())
+                    .children(component.arguments().stream().map(TranslationArgument::asComponent).toList());
+        }
+
+        @Override
+        public net.kyori.adventure.key.Key name() {
+            return net.kyori.adventure.key.Key.key("papertemplate", "test");
+        }
+
+        @Override
+        public @Nullable MessageFormat translate(final String key, final Locale locale) {
+            return null;
+        }
+
+        @Override
+        public @Nullable Component translate(final TranslatableComponent component, final Locale locale) {
+            return this.translate(-1, component, locale);
+        }
+
+        @Override
+        public @Nullable Component translate(final int id, final TranslatableComponent component, final Locale locale) {
+            this.renders++;
+            return expected(component);
+        }
+    }
+}